@@ -114,6 +114,7 @@ public abstract class AutoDeployHandler implements Runnable {
     private WatchService watchService;
     private Future<?> buildReloadTask;
     private long buildReloadTaskStartTime;
+    private volatile Path lastBuildLog;
     private final AtomicBoolean cleanPending = new AtomicBoolean(false);
     protected final ConcurrentSkipListSet<Source> sourceUpdatedPending = new ConcurrentSkipListSet<>();
     private final AtomicBoolean stopRequested = new AtomicBoolean(false);
@@ -359,6 +360,7 @@ public abstract class AutoDeployHandler implements Runnable {
                 goalsList.remove(0);
             }
             request.setGoals(goalsList);
+            request.setBatchMode(true);
             try {
                 Thread.sleep(5);
             } catch (InterruptedException e) {
@@ -366,15 +368,18 @@ public abstract class AutoDeployHandler implements Runnable {
                 return; // Exit if the thread is interrupted
             }
             log.info(message);
-            try {
+            try (BuildOutputCapture capture = new BuildOutputCapture(buildPath, log, System.out)) {
+                lastBuildLog = capture.getLogFile();
+                request.setOutputHandler(capture);
+                request.setErrorHandler(capture);
                 InvocationResult result = invoker.execute(request);
+                capture.printSummary(result.getExitCode() == 0);
                 if (result.getExitCode() != 0) {
                     if (!buildReloadTask.isCancelled()) {
                         log.info("Auto-build failed with exit code: " + result.getExitCode());
                         WebDriverFactory.updateTitle("Build failed", project, start.getDriver(), log);
                     }
                 } else {
-                    log.info("Auto-build successful for " + project.getName());
                     cleanPending.set(false);
                     sourceUpdatedPending.clear();
 
@@ -392,6 +397,13 @@ public abstract class AutoDeployHandler implements Runnable {
 
     public abstract void reload(boolean rebootRequired);
 
+    /**
+     * Returns the file with the full output of the last auto-build, or null.
+     */
+    public Path getLastBuildLog() {
+        return lastBuildLog;
+    }
+
     public void deleteBuildDir(String filePath) {
         try {
             Path fileToDelete = Paths.get(filePath);
@@ -0,0 +1,234 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.shared.invoker.InvocationOutputHandler;
+
+/**
+ * Captures the output of a forked auto-build to a file, instead of
+ * forwarding every line to the console.
+ * <p>
+ * Each build is written to its own file under
+ * <code>target/payara-auto-build</code>, the last {@value #MAX_BUILD_LOGS}
+ * are kept. The console only shows a live progress line with the mojo being
+ * executed, the compiler diagnostics as they come, and once done a timing
+ * summary pointing to the full output.
+ *
+ * @author Gaurav Gupta
+ */
+public class BuildOutputCapture implements InvocationOutputHandler, Closeable {
+
+    public static final String BUILD_LOG_DIRECTORY = "payara-auto-build";
+    private static final String BUILD_LOG_PREFIX = "auto-build-";
+    private static final String BUILD_LOG_SUFFIX = ".log";
+    private static final int MAX_BUILD_LOGS = 5;
+    private static final int MAX_ERROR_LINES = 50;
+    private static final long PROGRESS_INTERVAL_MILLIS = 100;
+    private static final Pattern MOJO_EXECUTION = Pattern.compile("^\\[INFO\\] --- (?:[\\w.-]+:)?([\\w.-]+):[^:\\s]+:([\\w.-]+) .*@ ([\\w.-]+) ---");
+    private static final Pattern COMPILER_DIAGNOSTIC = Pattern.compile("^\\[(ERROR|WARNING)\\] .+\\.(java|kt|groovy|scala):(\\[\\d+,\\d+\\]|\\d+)");
+
+    private final Log log;
+    private final PrintStream console;
+    private final Path logFile;
+    private final BufferedWriter writer;
+    private final long startTime = System.currentTimeMillis();
+    private final Map<String, Long> mojoTimes = new LinkedHashMap<>();
+    private final List<String> errors = new ArrayList<>();
+    private String currentMojo;
+    private long currentMojoStart;
+    private long lastProgress;
+    private int lines;
+    private int progressLength;
+
+    public BuildOutputCapture(Path buildDirectory, Log log, PrintStream console) throws IOException {
+        this.log = log;
+        this.console = console;
+        Path directory = buildDirectory.resolve(BUILD_LOG_DIRECTORY);
+        Files.createDirectories(directory);
+        this.logFile = nextLogFile(directory);
+        this.writer = Files.newBufferedWriter(logFile, StandardCharsets.UTF_8);
+    }
+
+    public Path getLogFile() {
+        return logFile;
+    }
+
+    @Override
+    public synchronized void consumeLine(String line) throws IOException {
+        if (line == null) {
+            return;
+        }
+        writer.write(line);
+        writer.newLine();
+        lines++;
+
+        Matcher mojo = MOJO_EXECUTION.matcher(line);
+        if (mojo.find()) {
+            startMojo(mojo.group(1) + ':' + mojo.group(2) + " @ " + mojo.group(3));
+        } else if (COMPILER_DIAGNOSTIC.matcher(line).find()) {
+            clearProgress();
+            if (line.startsWith("[ERROR]")) {
+                log.error(line.substring("[ERROR] ".length()));
+            } else {
+                log.warn(line.substring("[WARNING] ".length()));
+            }
+        } else if (line.startsWith("[ERROR]") && errors.size() < MAX_ERROR_LINES) {
+            errors.add(line);
+        }
+        printProgress(false);
+    }
+
+    /**
+     * Ends the progress line and prints the timing summary, with the error
+     * lines of a failed build.
+     */
+    public synchronized void printSummary(boolean success) {
+        startMojo(null);
+        clearProgress();
+        if (!success) {
+            for (String error : errors) {
+                log.error(error.substring("[ERROR]".length()).trim());
+            }
+        }
+        StringBuilder summary = new StringBuilder();
+        summary.append("Auto-build ").append(success ? "finished" : "failed")
+                .append(" in ").append(seconds(System.currentTimeMillis() - startTime));
+        if (!mojoTimes.isEmpty()) {
+            summary.append(" (");
+            String separator = "";
+            for (Map.Entry<String, Long> entry : mojoTimes.entrySet()) {
+                summary.append(separator).append(entry.getKey()).append(' ').append(seconds(entry.getValue()));
+                separator = ", ";
+            }
+            summary.append(')');
+        }
+        summary.append(", full output: ").append(logFile);
+        log.info(summary.toString());
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        clearProgress();
+        writer.close();
+    }
+
+    private void startMojo(String mojo) {
+        long now = System.currentTimeMillis();
+        if (currentMojo != null) {
+            mojoTimes.merge(currentMojo.substring(0, currentMojo.indexOf(" @ ")), now - currentMojoStart, Long::sum);
+        }
+        currentMojo = mojo;
+        currentMojoStart = now;
+        if (mojo != null) {
+            printProgress(true);
+        }
+    }
+
+    private void printProgress(boolean force) {
+        long now = System.currentTimeMillis();
+        if (console == null || (!force && now - lastProgress < PROGRESS_INTERVAL_MILLIS)) {
+            return;
+        }
+        lastProgress = now;
+        String progress = "Auto-build " + seconds(now - startTime) + ", " + lines + " lines"
+                + (currentMojo != null ? ", " + currentMojo : "");
+        StringBuilder text = new StringBuilder("\r").append(progress);
+        for (int i = progress.length(); i < progressLength; i++) {
+            text.append(' ');
+        }
+        progressLength = progress.length();
+        console.print(text);
+        console.flush();
+    }
+
+    private void clearProgress() {
+        if (console == null || progressLength == 0) {
+            return;
+        }
+        StringBuilder text = new StringBuilder("\r");
+        for (int i = 0; i < progressLength; i++) {
+            text.append(' ');
+        }
+        console.print(text.append('\r'));
+        console.flush();
+        progressLength = 0;
+    }
+
+    private static String seconds(long millis) {
+        return String.format("%.1f s", millis / 1000.0);
+    }
+
+    /**
+     * Picks the next numbered log file, deleting the oldest beyond the limit.
+     */
+    private static Path nextLogFile(Path directory) throws IOException {
+        List<Integer> numbers = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, BUILD_LOG_PREFIX + "*" + BUILD_LOG_SUFFIX)) {
+            for (Path file : stream) {
+                String name = file.getFileName().toString();
+                try {
+                    numbers.add(Integer.parseInt(name.substring(BUILD_LOG_PREFIX.length(), name.length() - BUILD_LOG_SUFFIX.length())));
+                } catch (NumberFormatException ex) {
+                    // not a build log
+                }
+            }
+        }
+        numbers.sort(null);
+        for (int i = 0; i <= numbers.size() - MAX_BUILD_LOGS; i++) {
+            Files.deleteIfExists(directory.resolve(BUILD_LOG_PREFIX + numbers.get(i) + BUILD_LOG_SUFFIX));
+        }
+        int next = numbers.isEmpty() ? 1 : numbers.get(numbers.size() - 1) + 1;
+        return directory.resolve(BUILD_LOG_PREFIX + next + BUILD_LOG_SUFFIX);
+    }
+}
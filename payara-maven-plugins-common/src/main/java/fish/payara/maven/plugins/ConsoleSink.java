@@ -0,0 +1,176 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins;
+
+import java.io.Closeable;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * Asynchronous console writer decoupling the threads pumping a child process
+ * output from the speed of the terminal.
+ * <p>
+ * Lines are handed over to a bounded ring buffer and never block the caller,
+ * so the child process pipe is always drained at full speed. A single
+ * consumer thread formats the lines and writes them in batches. When the
+ * buffer is saturated new lines are dropped, and a
+ * <code>... N lines elided</code> summary is printed in their place.
+ *
+ * @author Gaurav Gupta
+ */
+public class ConsoleSink implements Closeable {
+
+    private static final int DEFAULT_CAPACITY = 8192;
+    private static final int MAX_BATCH_SIZE = 512;
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+    private static final Line END = new Line(null, null);
+
+    private final PrintStream out;
+    private final UnaryOperator<String> formatter;
+    private final BlockingQueue<Line> buffer;
+    private final AtomicLong elided = new AtomicLong();
+    private final Thread consumer;
+    private volatile boolean closed;
+
+    public ConsoleSink(PrintStream out) {
+        this(out, UnaryOperator.identity());
+    }
+
+    public ConsoleSink(PrintStream out, UnaryOperator<String> formatter) {
+        this(out, formatter, DEFAULT_CAPACITY);
+    }
+
+    public ConsoleSink(PrintStream out, UnaryOperator<String> formatter, int capacity) {
+        this.out = out;
+        this.formatter = formatter;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.consumer = new Thread(this::drain, "payara-console-sink");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    /**
+     * Queues a line to be printed with the sink formatter.
+     */
+    public void println(String line) {
+        println(line, formatter);
+    }
+
+    /**
+     * Queues a line to be printed with the given formatter, applied on the
+     * consumer thread.
+     */
+    public void println(String line, UnaryOperator<String> lineFormatter) {
+        if (closed || !buffer.offer(new Line(line, lineFormatter))) {
+            elided.incrementAndGet();
+        }
+    }
+
+    /**
+     * Prints the buffered lines and stops the consumer thread.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            buffer.put(END);
+            consumer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        List<Line> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        StringBuilder text = new StringBuilder();
+        String separator = System.lineSeparator();
+        boolean end = false;
+        try {
+            while (!end) {
+                batch.add(buffer.take());
+                buffer.drainTo(batch, MAX_BATCH_SIZE - 1);
+                for (Line line : batch) {
+                    if (line == END) {
+                        end = true;
+                        break;
+                    }
+                    text.append(line.format()).append(separator);
+                }
+                long count = elided.getAndSet(0);
+                if (count > 0) {
+                    text.append("... ").append(count).append(count == 1 ? " line" : " lines")
+                            .append(" elided").append(separator);
+                }
+                out.print(text);
+                out.flush();
+                text.setLength(0);
+                batch.clear();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Line {
+
+        private final String text;
+        private final UnaryOperator<String> formatter;
+
+        private Line(String text, UnaryOperator<String> formatter) {
+            this.text = text;
+            this.formatter = formatter;
+        }
+
+        private String format() {
+            try {
+                return formatter.apply(text);
+            } catch (RuntimeException ex) {
+                return text;
+            }
+        }
+    }
+}
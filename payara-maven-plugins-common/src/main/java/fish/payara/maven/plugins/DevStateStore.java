@@ -0,0 +1,232 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Small persistent key-value store for dev mode state shared across plugin
+ * executions (Payara Server, Payara Micro and Payara Qube sessions of the same
+ * workspace).
+ * <p>
+ * Keys are grouped by namespace. Reads are served from memory and the file is
+ * only re-parsed when its modification time or size changed. Writes merge the
+ * current file content under a cross-process file lock and replace the file
+ * with an atomic rename, so parallel sessions never wipe each other's keys and
+ * readers never observe a partially written file.
+ *
+ * @author Gaurav Gupta
+ */
+public class DevStateStore {
+
+    /**
+     * Namespaces of the dev state of the Payara Server, Payara Micro and
+     * Payara Qube plugins.
+     */
+    public static final String SERVER_NAMESPACE = "server";
+    public static final String MICRO_NAMESPACE = "micro";
+    public static final String QUBE_NAMESPACE = "qube";
+
+    private static final String TEMP_DIR = System.getProperty("java.io.tmpdir");
+    // File path in the system's default temporary directory to store the dev state
+    private static final Path DEFAULT_FILE = Paths.get(TEMP_DIR, "payara-maven-config.properties");
+    private static final String LOCK_SUFFIX = ".lock";
+    private static final char NAMESPACE_SEPARATOR = '.';
+
+    private static final Map<Path, DevStateStore> STORES = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final Path lockFile;
+    private Properties properties = new Properties();
+    private long lastModified = -1;
+    private long size = -1;
+    private Object fileKey;
+
+    private DevStateStore(Path file) {
+        this.file = file;
+        this.lockFile = file.resolveSibling(file.getFileName() + LOCK_SUFFIX);
+    }
+
+    public static DevStateStore getDefault() {
+        return of(DEFAULT_FILE);
+    }
+
+    public static DevStateStore of(Path file) {
+        return STORES.computeIfAbsent(file.toAbsolutePath().normalize(), DevStateStore::new);
+    }
+
+    public String get(String namespace, String key) {
+        return get(namespace, key, null);
+    }
+
+    public synchronized String get(String namespace, String key, String defaultValue) {
+        if (key == null || key.isEmpty()) {
+            return defaultValue;
+        }
+        refresh();
+        return properties.getProperty(key(namespace, key), defaultValue);
+    }
+
+    public void put(String namespace, String key, String value) {
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+        putAll(namespace, Collections.singletonMap(key, value));
+    }
+
+    public void remove(String namespace, String key) {
+        put(namespace, key, null);
+    }
+
+    /**
+     * Applies all the given entries of the namespace in one atomic update. A
+     * <code>null</code> value removes the key.
+     */
+    public synchronized void putAll(String namespace, Map<String, String> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                    FileLock lock = channel.lock()) {
+                // merge with the changes made by other processes
+                refresh();
+                Properties updated = new Properties();
+                updated.putAll(properties);
+                for (Map.Entry<String, String> entry : entries.entrySet()) {
+                    if (entry.getValue() == null) {
+                        updated.remove(key(namespace, entry.getKey()));
+                    } else {
+                        updated.setProperty(key(namespace, entry.getKey()), entry.getValue());
+                    }
+                }
+                write(updated);
+                properties = updated;
+                stamp(Files.readAttributes(file, BasicFileAttributes.class));
+            }
+        } catch (IOException ex) {
+            // dev state is best effort, keep the in-memory copy usable
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                if (entry.getValue() == null) {
+                    properties.remove(key(namespace, entry.getKey()));
+                } else {
+                    properties.setProperty(key(namespace, entry.getKey()), entry.getValue());
+                }
+            }
+        }
+    }
+
+    private static String key(String namespace, String key) {
+        return namespace == null || namespace.isEmpty() ? key : namespace + NAMESPACE_SEPARATOR + key;
+    }
+
+    private void refresh() {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException ex) {
+            if (lastModified != -1) {
+                properties = new Properties();
+                lastModified = -1;
+                size = -1;
+                fileKey = null;
+            }
+            return;
+        } catch (IOException ex) {
+            return;
+        }
+        if (isUnchanged(attributes)) {
+            return;
+        }
+        Properties loaded = new Properties();
+        try (InputStream input = Files.newInputStream(file)) {
+            loaded.load(input);
+        } catch (IOException | IllegalArgumentException ex) {
+            return;
+        }
+        properties = loaded;
+        stamp(attributes);
+    }
+
+    private boolean isUnchanged(BasicFileAttributes attributes) {
+        // every write is an atomic rename, so the file key (inode) changes too where supported
+        return attributes.lastModifiedTime().toMillis() == lastModified
+                && attributes.size() == size
+                && (fileKey == null ? attributes.fileKey() == null : fileKey.equals(attributes.fileKey()));
+    }
+
+    private void stamp(BasicFileAttributes attributes) {
+        lastModified = attributes.lastModifiedTime().toMillis();
+        size = attributes.size();
+        fileKey = attributes.fileKey();
+    }
+
+    private void write(Properties updated) throws IOException {
+        Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream output = Files.newOutputStream(temp)) {
+                updated.store(output, null);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
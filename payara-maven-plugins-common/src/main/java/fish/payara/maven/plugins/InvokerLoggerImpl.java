@@ -65,7 +65,7 @@ public class InvokerLoggerImpl implements InvokerLogger {
 
     @Override
     public boolean isDebugEnabled() {
-        return true;
+        return log.isDebugEnabled();
     }
 
     @Override
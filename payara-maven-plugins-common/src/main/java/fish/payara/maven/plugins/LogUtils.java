@@ -38,44 +38,151 @@
  */
 package fish.payara.maven.plugins;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 /**
  *
  * @author Gaurav Gupta
  */
 public class LogUtils {
 
+    private static final String INFO_LEVEL = "INFO";
     private static final String WARNING_LEVEL = "WARNING";
     private static final String SEVERE_LEVEL = "SEVERE";
-    private static final String LOG_REGEX = "\\[([^\\[\\]]*)\\].*(\\[.*(INFO|WARNING|SEVERE).*\\]).*\\[levelValue\\: \\d+\\](.*)";
+    private static final String LEVEL_VALUE_MARKER = "[levelValue: ";
     private static final String WHITE_COLOR_CODE = "\033[97m" + '[';
     private static final String YELLOW_COLOR_CODE = "\033[93m" + '[';
     private static final String RED_COLOR_CODE = "\033[91m" + '[';
     private static final String RESET_COLOR_CODE = ']' + "\033[0m ";
 
+    /**
+     * Shortens a Payara uniform log format record to
+     * <code>[time] [level] message</code>, the level being shown for warnings
+     * and errors only. Lines not in that format are returned as is.
+     * <p>
+     * Single pass scanner equivalent to finding
+     * <code>\[([^\[\]]*)\].*(\[.*(INFO|WARNING|SEVERE).*\]).*\[levelValue: \d+\](.*)</code>:
+     * the timestamp is the first bracketed field, the message follows the last
+     * <code>[levelValue: n]</code> field and the level is the last level name
+     * that is preceded by a <code>[</code> and followed by a <code>]</code>
+     * between them. As with the pattern, the timestamp may span line
+     * terminators but the rest of the record is on the line where the
+     * timestamp ends, a later timestamp being tried when that line does not
+     * hold a record.
+     */
     public static String trimLog(String line) {
-        Pattern pattern = Pattern.compile(LOG_REGEX);
-        Matcher matcher = pattern.matcher(line);
-        boolean find = matcher.find();
-        if (find) {
-            String timeStamp = matcher.group(1).trim();
-            String level = matcher.group(3).trim();
-            String content = matcher.group(4).trim();
-            switch (level) {
-                case WARNING_LEVEL:
-                    return warning(getTimestamp(timeStamp) + " ", content);
-                case SEVERE_LEVEL:
-                    return severe(getTimestamp(timeStamp) + " ", content);
-                default:
-                    return getTimestamp(timeStamp) + " " + content;
+        int length = line.length();
+        int failedLineEnd = -1;
+        int open = line.indexOf('[');
+        while (open >= 0) {
+            // timestamp: a [...] field without nested brackets
+            int next = open + 1;
+            while (next < length && line.charAt(next) != '[' && line.charAt(next) != ']') {
+                next++;
+            }
+            if (next == length) {
+                return line;
+            } else if (line.charAt(next) == '[') {
+                open = next;
+                continue;
+            }
+            // a timestamp ending on a line that already failed fails as well
+            if (next >= failedLineEnd) {
+                int lineEnd = lineEnd(line, next + 1);
+                String trimmed = trimRecord(line, open + 1, next, lineEnd);
+                if (trimmed != null) {
+                    return trimmed;
+                }
+                failedLineEnd = lineEnd;
+            }
+            open = line.indexOf('[', next + 1);
+        }
+        return line;
+    }
+
+    /**
+     * Returns the index of the first line terminator from the index, or the
+     * length of the text, a line terminator being one of the characters the
+     * <code>.</code> of a pattern does not match.
+     */
+    private static int lineEnd(String text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return i;
+            }
+        }
+        return text.length();
+    }
+
+    /**
+     * Trims the record whose timestamp is between the indexes and whose
+     * fields and message end at <code>end</code>, or returns null when it is
+     * not a record.
+     */
+    private static String trimRecord(String line, int timestampStart, int timestampEnd, int end) {
+        // message: after the last [levelValue: n] field
+        int marker = -1;
+        int messageStart = -1;
+        for (int from = end; from > timestampEnd; ) {
+            int candidate = line.lastIndexOf(LEVEL_VALUE_MARKER, from - 1);
+            if (candidate <= timestampEnd) {
+                break;
+            }
+            int digitsEnd = candidate + LEVEL_VALUE_MARKER.length();
+            while (digitsEnd < end && isDigit(line.charAt(digitsEnd))) {
+                digitsEnd++;
             }
-        } else {
-            return line;
+            if (digitsEnd > candidate + LEVEL_VALUE_MARKER.length()
+                    && digitsEnd < end && line.charAt(digitsEnd) == ']') {
+                marker = candidate;
+                messageStart = digitsEnd + 1;
+                break;
+            }
+            from = candidate;
+        }
+        if (marker < 0) {
+            return null;
+        }
+
+        // level: the last level name having a '[' before and a ']' after it, before the marker
+        int openBracket = line.indexOf('[', timestampEnd + 1);
+        int closeBracket = line.lastIndexOf(']', marker - 1);
+        if (openBracket < 0 || closeBracket < openBracket) {
+            return null;
+        }
+        String level = null;
+        for (int i = closeBracket - INFO_LEVEL.length(); i > openBracket; i--) {
+            char c = line.charAt(i);
+            if (c == 'I' && line.startsWith(INFO_LEVEL, i)) {
+                level = INFO_LEVEL;
+            } else if (c == 'W' && i + WARNING_LEVEL.length() <= closeBracket && line.startsWith(WARNING_LEVEL, i)) {
+                level = WARNING_LEVEL;
+            } else if (c == 'S' && i + SEVERE_LEVEL.length() <= closeBracket && line.startsWith(SEVERE_LEVEL, i)) {
+                level = SEVERE_LEVEL;
+            }
+            if (level != null) {
+                break;
+            }
+        }
+        if (level == null) {
+            return null;
+        }
+
+        String timeStamp = getTimestamp(line.substring(timestampStart, timestampEnd).trim());
+        String content = line.substring(messageStart, end).trim();
+        switch (level) {
+            case WARNING_LEVEL:
+                return warning(timeStamp + " ", content);
+            case SEVERE_LEVEL:
+                return severe(timeStamp + " ", content);
+            default:
+                return timeStamp + " " + content;
         }
     }
 
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
     public static String highlight(String text) {
         int leadingSpaces = 0;
         while (leadingSpaces < text.length() && Character.isWhitespace(text.charAt(leadingSpaces))) {
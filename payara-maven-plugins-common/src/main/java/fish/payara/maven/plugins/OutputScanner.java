@@ -0,0 +1,207 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Scans process output lines for all the registered markers in a single pass
+ * using an Aho-Corasick automaton, and publishes the matching
+ * {@link OutputEvent}s to the subscribed consumers.
+ * <p>
+ * Scanning does not allocate nor retain anything for lines without a match,
+ * and the scanner can be shared by the threads pumping stdout and stderr.
+ *
+ * @author Gaurav Gupta
+ */
+public class OutputScanner {
+
+    private final Map<String, OutputEvent> markers = new LinkedHashMap<>();
+    private final Map<OutputEvent, List<Consumer<String>>> subscribers = new EnumMap<>(OutputEvent.class);
+    private volatile Automaton automaton;
+
+    /**
+     * Registers a marker, a line containing it raises the event.
+     */
+    public synchronized OutputScanner register(String marker, OutputEvent event) {
+        if (marker != null && !marker.isEmpty()) {
+            markers.put(marker, event);
+            automaton = null;
+        }
+        return this;
+    }
+
+    public synchronized OutputScanner subscribe(OutputEvent event, Consumer<String> consumer) {
+        subscribers.computeIfAbsent(event, e -> new CopyOnWriteArrayList<>()).add(consumer);
+        return this;
+    }
+
+    /**
+     * Scans the line, notifies the subscribers of each raised event and
+     * returns the raised events.
+     */
+    public Set<OutputEvent> scan(String line) {
+        Automaton current = automaton;
+        if (current == null) {
+            current = compile();
+        }
+        int matches = current.match(line);
+        if (matches == 0) {
+            return Collections.emptySet();
+        }
+        Set<OutputEvent> events = EnumSet.noneOf(OutputEvent.class);
+        for (OutputEvent event : OutputEvent.values()) {
+            if ((matches & (1 << event.ordinal())) != 0) {
+                events.add(event);
+                List<Consumer<String>> consumers = subscribers.get(event);
+                if (consumers != null) {
+                    for (Consumer<String> consumer : consumers) {
+                        consumer.accept(line);
+                    }
+                }
+            }
+        }
+        return events;
+    }
+
+    private synchronized Automaton compile() {
+        if (automaton == null) {
+            automaton = new Automaton(markers);
+        }
+        return automaton;
+    }
+
+    /**
+     * Deterministic Aho-Corasick automaton over the alphabet of the markers,
+     * characters not used by any marker share a single column.
+     */
+    private static final class Automaton {
+
+        private final int[] alphabet;
+        private final int[][] transitions;
+        private final int[] outputs;
+
+        Automaton(Map<String, OutputEvent> markers) {
+            char maxChar = 0;
+            for (String marker : markers.keySet()) {
+                for (int i = 0; i < marker.length(); i++) {
+                    maxChar = (char) Math.max(maxChar, marker.charAt(i));
+                }
+            }
+            alphabet = new int[maxChar + 1];
+            int symbols = 1;
+            for (String marker : markers.keySet()) {
+                for (int i = 0; i < marker.length(); i++) {
+                    if (alphabet[marker.charAt(i)] == 0) {
+                        alphabet[marker.charAt(i)] = symbols++;
+                    }
+                }
+            }
+
+            // trie
+            List<int[]> gotos = new ArrayList<>();
+            List<Integer> outs = new ArrayList<>();
+            gotos.add(new int[symbols]);
+            outs.add(0);
+            for (Map.Entry<String, OutputEvent> entry : markers.entrySet()) {
+                String marker = entry.getKey();
+                int state = 0;
+                for (int i = 0; i < marker.length(); i++) {
+                    int symbol = alphabet[marker.charAt(i)];
+                    if (gotos.get(state)[symbol] == 0) {
+                        gotos.get(state)[symbol] = gotos.size();
+                        gotos.add(new int[symbols]);
+                        outs.add(0);
+                    }
+                    state = gotos.get(state)[symbol];
+                }
+                outs.set(state, outs.get(state) | (1 << entry.getValue().ordinal()));
+            }
+
+            // failure links folded into a complete transition table
+            transitions = gotos.toArray(new int[0][]);
+            outputs = new int[transitions.length];
+            for (int i = 0; i < outputs.length; i++) {
+                outputs[i] = outs.get(i);
+            }
+            int[] failure = new int[transitions.length];
+            Queue<Integer> queue = new ArrayDeque<>();
+            for (int symbol = 0; symbol < symbols; symbol++) {
+                if (transitions[0][symbol] != 0) {
+                    queue.add(transitions[0][symbol]);
+                }
+            }
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                outputs[state] |= outputs[failure[state]];
+                for (int symbol = 0; symbol < symbols; symbol++) {
+                    int next = transitions[state][symbol];
+                    if (next != 0) {
+                        failure[next] = transitions[failure[state]][symbol];
+                        queue.add(next);
+                    } else {
+                        transitions[state][symbol] = transitions[failure[state]][symbol];
+                    }
+                }
+            }
+        }
+
+        int match(String line) {
+            int state = 0;
+            int matches = 0;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                state = transitions[state][c < alphabet.length ? alphabet[c] : 0];
+                matches |= outputs[state];
+            }
+            return matches;
+        }
+    }
+}
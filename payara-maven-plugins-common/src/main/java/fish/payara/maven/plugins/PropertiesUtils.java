@@ -38,86 +38,31 @@
  */
 package fish.payara.maven.plugins;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.util.Properties;
-
 /**
  *
  * @author Gaurav Gupta
  */
 public class PropertiesUtils {
 
-    private static final String TEMP_DIR = System.getProperty("java.io.tmpdir");
-    // File path in the system's default temporary directory to store the properties
-    private static final String FILE_PATH = TEMP_DIR + File.separator + "payara-maven-config.properties";
+    private static final String DEFAULT_NAMESPACE = "payara";
 
     public static void saveProperties(String key, String value) {
-        Properties prop = new Properties();
-        OutputStream output = null;
-
-        try {
-            output = new FileOutputStream(FILE_PATH);
-
-            // Set the key-value pair
-            prop.setProperty(key, value);
+        saveProperties(DEFAULT_NAMESPACE, key, value);
+    }
 
-            // Save properties to the file
-            prop.store(output, null);
-        } catch (IOException io) {
-            io.printStackTrace();
-        } finally {
-            if (output != null) {
-                try {
-                    output.close();
-                } catch (IOException e) {
-                    e.printStackTrace();
-                }
-            }
-        }
+    public static void saveProperties(String namespace, String key, String value) {
+        DevStateStore.getDefault().put(namespace, key, value);
     }
 
     public static String getProperty(String key, String defaultValue) {
+        return getProperty(DEFAULT_NAMESPACE, key, defaultValue);
+    }
 
+    public static String getProperty(String namespace, String key, String defaultValue) {
         if (key == null || key.isEmpty()) {
             return null;
         }
-
-        Properties prop = new Properties();
-        InputStream input = null;
-        String value = null;
-
-        try {
-            File file = new File(FILE_PATH);
-            if (!file.exists()) {
-                saveProperties(key, key);
-            }
-            input = new FileInputStream(FILE_PATH);
-
-            // Load the properties file
-            prop.load(input);
-
-            // Get the value for the provided key
-            value = prop.getProperty(key);
-            if (value == null) {
-                value = defaultValue;
-            }
-        } catch (IOException io) {
-            io.printStackTrace();
-        } finally {
-            if (input != null) {
-                try {
-                    input.close();
-                } catch (IOException e) {
-                    e.printStackTrace();
-                }
-            }
-        }
-        return value;
+        return DevStateStore.getDefault().get(namespace, key, defaultValue);
     }
 
 }
@@ -0,0 +1,168 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Persistent cache of the detected browser and the resolved WebDriver binary,
+ * stored under <code>~/.payara</code> and keyed by OS, architecture and
+ * browser. Entries are revalidated lazily on lookup, so a valid entry never
+ * requires the WebDriverManager resolution (and its network access).
+ *
+ * @author Gaurav Gupta
+ */
+public class WebDriverCache {
+
+    private static final Path CACHE_FILE = Paths.get(System.getProperty("user.home"), ".payara", "webdriver-cache.properties");
+
+    private static final String DEFAULT_BROWSER_KEY = "default";
+    private static final String BROWSER_SUFFIX = ".browser";
+    private static final String BROWSER_PATH_SUFFIX = ".browserPath";
+    private static final String BROWSER_STAMP_SUFFIX = ".browserStamp";
+    private static final String DRIVER_PATH_SUFFIX = ".driverPath";
+    private static final String DRIVER_VERSION_SUFFIX = ".driverVersion";
+
+    private static final WebDriverCache INSTANCE = new WebDriverCache(DevStateStore.of(CACHE_FILE));
+
+    private final DevStateStore store;
+    private final String platform;
+
+    WebDriverCache(DevStateStore store) {
+        this.store = store;
+        this.platform = System.getProperty("os.name").toLowerCase().replaceAll("\\s+", "")
+                + '-' + System.getProperty("os.arch").toLowerCase();
+    }
+
+    public static WebDriverCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the cached default browser, if the browser binary recorded with
+     * it is still present.
+     */
+    public String getDefaultBrowser() {
+        String browser = store.get(platform, DEFAULT_BROWSER_KEY + BROWSER_SUFFIX);
+        String browserPath = store.get(platform, DEFAULT_BROWSER_KEY + BROWSER_PATH_SUFFIX);
+        if (browser == null || browserPath == null || !Files.exists(Paths.get(browserPath))) {
+            return null;
+        }
+        return browser;
+    }
+
+    public void putDefaultBrowser(String browser, String browserPath) {
+        if (browser == null || browserPath == null) {
+            return;
+        }
+        Map<String, String> entries = new HashMap<>();
+        entries.put(DEFAULT_BROWSER_KEY + BROWSER_SUFFIX, browser);
+        entries.put(DEFAULT_BROWSER_KEY + BROWSER_PATH_SUFFIX, browserPath);
+        store.putAll(platform, entries);
+    }
+
+    /**
+     * Returns the cached driver binary for the browser, or <code>null</code>
+     * when there is no entry or the entry is stale: the driver binary was
+     * removed, or the browser binary was replaced (i.e. upgraded) since the
+     * driver was resolved.
+     */
+    public String getDriverPath(String browser, String browserPath) {
+        String prefix = browser.toLowerCase();
+        String driverPath = store.get(platform, prefix + DRIVER_PATH_SUFFIX);
+        if (driverPath == null) {
+            return null;
+        }
+        boolean valid = Files.isRegularFile(Paths.get(driverPath))
+                && equals(browserPath, store.get(platform, prefix + BROWSER_PATH_SUFFIX))
+                && equals(stamp(browserPath), store.get(platform, prefix + BROWSER_STAMP_SUFFIX));
+        if (!valid) {
+            removeDriver(browser);
+            return null;
+        }
+        return driverPath;
+    }
+
+    /**
+     * Evicts the cached driver of the browser.
+     */
+    public void removeDriver(String browser) {
+        store.putAll(platform, driverEntries(browser.toLowerCase(), null, null, null));
+    }
+
+    public String getDriverVersion(String browser) {
+        return store.get(platform, browser.toLowerCase() + DRIVER_VERSION_SUFFIX);
+    }
+
+    public void putDriver(String browser, String browserPath, String driverVersion, String driverPath) {
+        if (driverPath == null || driverPath.isEmpty()) {
+            return;
+        }
+        store.putAll(platform, driverEntries(browser.toLowerCase(), browserPath, driverVersion, driverPath));
+    }
+
+    private static Map<String, String> driverEntries(String prefix, String browserPath, String driverVersion, String driverPath) {
+        Map<String, String> entries = new HashMap<>();
+        entries.put(prefix + BROWSER_PATH_SUFFIX, browserPath);
+        entries.put(prefix + BROWSER_STAMP_SUFFIX, stamp(browserPath));
+        entries.put(prefix + DRIVER_PATH_SUFFIX, driverPath);
+        entries.put(prefix + DRIVER_VERSION_SUFFIX, driverVersion);
+        return entries;
+    }
+
+    private static String stamp(String path) {
+        if (path == null) {
+            return null;
+        }
+        try {
+            return Long.toString(Files.getLastModifiedTime(Paths.get(path)).toMillis());
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    private static boolean equals(String s1, String s2) {
+        return s1 == null ? s2 == null : s1.equals(s2);
+    }
+}
@@ -44,22 +44,33 @@ package fish.payara.maven.plugins;
  */
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
 import org.openqa.selenium.safari.SafariDriver;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import java.io.File;
+import java.util.function.Supplier;
 import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.project.MavenProject;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.ie.InternetExplorerDriver;
+import org.openqa.selenium.ie.InternetExplorerDriverService;
 import org.openqa.selenium.ie.InternetExplorerOptions;
 
 public class WebDriverFactory {
 
+    private static final String CHROME = "chrome";
+    private static final String FIREFOX = "firefox";
+    private static final String EDGE = "edge";
+    private static final String IE = "ie";
+    private static final String SAFARI = "safari";
+
     public static WebDriver createWebDriver(String browser, Log log) {
         WebDriver driver = null;
         if (browser == null) {
@@ -67,31 +78,31 @@ public class WebDriverFactory {
         }
 
         switch (browser.toLowerCase()) {
-            case "chrome": {
+            case CHROME: {
                 ChromeOptions options = new ChromeOptions();
                 options.addArguments("--enable-notifications");
-                WebDriverManager.chromedriver().setup();
-                driver = new ChromeDriver(options);
+                driver = startDriver(CHROME, findChromeBrowser(), ChromeDriverService.CHROME_DRIVER_EXE_PROPERTY,
+                        WebDriverManager::chromedriver, () -> new ChromeDriver(options), log);
                 break;
             }
-            case "firefox": {
+            case FIREFOX: {
                 FirefoxOptions options = new FirefoxOptions();
-                WebDriverManager.firefoxdriver().setup();
-                driver = new FirefoxDriver(options);
+                driver = startDriver(FIREFOX, findFirefoxBrowser(), GeckoDriverService.GECKO_DRIVER_EXE_PROPERTY,
+                        WebDriverManager::firefoxdriver, () -> new FirefoxDriver(options), log);
                 break;
             }
-            case "edge": {
-                WebDriverManager.edgedriver().setup();
-                driver = new EdgeDriver();
+            case EDGE: {
+                driver = startDriver(EDGE, null, EdgeDriverService.EDGE_DRIVER_EXE_PROPERTY,
+                        WebDriverManager::edgedriver, EdgeDriver::new, log);
                 break;
             }
-            case "ie": {
+            case IE: {
                 InternetExplorerOptions options = new InternetExplorerOptions();
-                WebDriverManager.iedriver().setup();
-                driver = new InternetExplorerDriver(options);
+                driver = startDriver(IE, null, InternetExplorerDriverService.IE_DRIVER_EXE_PROPERTY,
+                        WebDriverManager::iedriver, () -> new InternetExplorerDriver(options), log);
                 break;
             }
-            case "safari": {
+            case SAFARI: {
                 driver = new SafariDriver();
                 break;
             }
@@ -102,13 +113,74 @@ public class WebDriverFactory {
         return driver;
     }
 
+    /**
+     * Starts the browser with the driver from {@link #setupDriver}. A cached
+     * driver can be unusable even though its binary is still present (e.g.
+     * Edge or IE got upgraded), so when startup fails with a cached driver the
+     * entry is evicted and the driver is resolved again once.
+     */
+    private static WebDriver startDriver(String browser, String browserPath, String driverProperty,
+            Supplier<WebDriverManager> managerSupplier, Supplier<WebDriver> driverSupplier, Log log) {
+        boolean cached = setupDriver(browser, browserPath, driverProperty, managerSupplier, log);
+        try {
+            return driverSupplier.get();
+        } catch (WebDriverException ex) {
+            if (!cached) {
+                throw ex;
+            }
+            log.debug("Cached " + browser + " driver failed to start, resolving it again", ex);
+            WebDriverCache.getInstance().removeDriver(browser);
+            resolveDriver(browser, browserPath, driverProperty, managerSupplier, log);
+            return driverSupplier.get();
+        }
+    }
+
+    /**
+     * Points Selenium to the driver binary for the browser. A valid entry of
+     * the {@link WebDriverCache} is used as is, otherwise the driver is
+     * resolved by WebDriverManager and the result is cached.
+     *
+     * @return <code>true</code> if the cached driver was used
+     */
+    private static boolean setupDriver(String browser, String browserPath, String driverProperty,
+            Supplier<WebDriverManager> managerSupplier, Log log) {
+        WebDriverCache cache = WebDriverCache.getInstance();
+        String driverPath = cache.getDriverPath(browser, browserPath);
+        if (driverPath != null) {
+            log.debug("Using cached " + browser + " driver " + cache.getDriverVersion(browser) + " : " + driverPath);
+            System.setProperty(driverProperty, driverPath);
+            return true;
+        }
+        resolveDriver(browser, browserPath, driverProperty, managerSupplier, log);
+        return false;
+    }
+
+    private static void resolveDriver(String browser, String browserPath, String driverProperty,
+            Supplier<WebDriverManager> managerSupplier, Log log) {
+        WebDriverManager manager = managerSupplier.get();
+        manager.setup();
+        log.debug("Resolved " + browser + " driver " + manager.getDownloadedDriverVersion() + " : " + manager.getDownloadedDriverPath());
+        WebDriverCache.getInstance().putDriver(browser, browserPath, manager.getDownloadedDriverVersion(), manager.getDownloadedDriverPath());
+    }
+
     public static String getDefaultBrowser(Log log) {
-        if (isChromeBrowserInstalled()) {
+        WebDriverCache cache = WebDriverCache.getInstance();
+        String cachedBrowser = cache.getDefaultBrowser();
+        if (cachedBrowser != null) {
+            log.debug("Cached default browser: " + cachedBrowser);
+            return cachedBrowser;
+        }
+        String chromePath = findChromeBrowser();
+        if (chromePath != null) {
             log.debug("Chrome browser found");
-            return "chrome";
-        } else if (isFirefoxBrowserInstalled()) {
+            cache.putDefaultBrowser(CHROME, chromePath);
+            return CHROME;
+        }
+        String firefoxPath = findFirefoxBrowser();
+        if (firefoxPath != null) {
             log.debug("Firefox browser found");
-            return "firefox";
+            cache.putDefaultBrowser(FIREFOX, firefoxPath);
+            return FIREFOX;
         } else {
             String os = System.getProperty("os.name").toLowerCase();
             boolean isWindows = os.contains("win");
@@ -116,11 +188,11 @@ public class WebDriverFactory {
 
             String defaultBrowser;
             if (isWindows) {
-                defaultBrowser = "edge";
+                defaultBrowser = EDGE;
             } else if (isMac) {
-                defaultBrowser = "safari";
+                defaultBrowser = SAFARI;
             } else {
-                defaultBrowser = "firefox";
+                defaultBrowser = FIREFOX;
             }
 
             log.debug("Setting default browser: " + defaultBrowser);
@@ -129,51 +201,52 @@ public class WebDriverFactory {
     }
 
     public static boolean isFirefoxBrowserInstalled() {
+        return findFirefoxBrowser() != null;
+    }
+
+    public static boolean isChromeBrowserInstalled() {
+        return findChromeBrowser() != null;
+    }
+
+    private static String findFirefoxBrowser() {
         String os = System.getProperty("os.name").toLowerCase();
         boolean isWindows = os.contains("win");
         boolean isMac = os.contains("mac");
 
         if (isWindows) {
             String programFiles = System.getenv("ProgramFiles");
-            String firefoxPath = programFiles + "\\Mozilla Firefox\\firefox.exe";
-            return new File(firefoxPath).exists();
+            return existingPath(programFiles + "\\Mozilla Firefox\\firefox.exe");
         } else if (isMac) {
-            String macFirefoxPath = "/Applications/Firefox.app/Contents/MacOS/firefox";
-            return new File(macFirefoxPath).exists();
+            return existingPath("/Applications/Firefox.app/Contents/MacOS/firefox");
         } else {
             // Assuming Linux or Unix-based system where Firefox is typically installed in the path
-            String[] searchPaths = {"/usr/bin/firefox", "/usr/bin/firefox-esr", "/usr/bin/firefox-bin"};
-            for (String path : searchPaths) {
-                if (new File(path).exists()) {
-                    return true;
-                }
-            }
-            return false;
+            return existingPath("/usr/bin/firefox", "/usr/bin/firefox-esr", "/usr/bin/firefox-bin");
         }
     }
 
-    public static boolean isChromeBrowserInstalled() {
+    private static String findChromeBrowser() {
         String os = System.getProperty("os.name").toLowerCase();
         boolean isWindows = os.contains("win");
         boolean isMac = os.contains("mac");
 
         if (isWindows) {
             String programFiles = System.getenv("ProgramFiles");
-            String chromePath = programFiles + "\\Google\\Chrome\\Application\\chrome.exe";
-            return new File(chromePath).exists();
+            return existingPath(programFiles + "\\Google\\Chrome\\Application\\chrome.exe");
         } else if (isMac) {
-            String macChromePath = "/Applications/Google Chrome.app/Contents/MacOS/Google Chrome";
-            return new File(macChromePath).exists();
+            return existingPath("/Applications/Google Chrome.app/Contents/MacOS/Google Chrome");
         } else {
             // Assuming Linux or Unix-based system where Chrome is typically installed in the path
-            String[] searchPaths = {"/usr/bin/google-chrome", "/usr/bin/chromium", "/usr/bin/chromium-browser"};
-            for (String path : searchPaths) {
-                if (new File(path).exists()) {
-                    return true;
-                }
+            return existingPath("/usr/bin/google-chrome", "/usr/bin/chromium", "/usr/bin/chromium-browser");
+        }
+    }
+
+    private static String existingPath(String... searchPaths) {
+        for (String path : searchPaths) {
+            if (new File(path).exists()) {
+                return path;
             }
-            return false;
         }
+        return null;
     }
 
     public static void executeScript(String script, WebDriver driver, Log log) {
@@ -0,0 +1,110 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+/**
+ *
+ * @author Gaurav Gupta
+ */
+public class LogUtilsTest {
+
+    private static final String TIMESTAMP = "[2025-01-10T10:15:30.123+0100]";
+    private static final String TIME = "\033[97m[10:15:30.123]\033[0m  ";
+
+    @Test
+    public void testTrimInfoRecord() {
+        String line = TIMESTAMP + " [Payara 6.2025.1] [INFO] [] [javax.enterprise.system.core]"
+                + " [tid: _ThreadID=1] [timeMillis: 1736500530123] [levelValue: 800] Server started";
+        assertEquals(TIME + "Server started", LogUtils.trimLog(line));
+    }
+
+    @Test
+    public void testTrimWarningAndSevereRecords() {
+        assertEquals(TIME + "\033[93m[WARNING]\033[0m Low memory",
+                LogUtils.trimLog(TIMESTAMP + " [Payara] [WARNING] [] [core] [levelValue: 900] Low memory"));
+        assertEquals(TIME + "\033[91m[SEVERE]\033[0m Boom",
+                LogUtils.trimLog("[2025-01-10T10:15:30.123-0500] [Payara] [SEVERE] [] [core] [levelValue: 1000] Boom"));
+    }
+
+    @Test
+    public void testMessageAfterLastLevelValue() {
+        assertEquals(TIME + "last",
+                LogUtils.trimLog(TIMESTAMP + " [Payara] [INFO] [levelValue: 800] first [levelValue: 900] last"));
+        assertEquals(TIME + "trailing spaces",
+                LogUtils.trimLog(TIMESTAMP + " [Payara] [INFO] [x] [levelValue: 800] trailing spaces   "));
+    }
+
+    @Test
+    public void testLinesNotInUniformFormat() {
+        String[] lines = {
+            "plain output line",
+            "",
+            "[unterminated",
+            TIMESTAMP + " [Payara] [levelValue: 800] no level",
+            TIMESTAMP + " [Payara] [INFO] [levelValue: x] no level value",
+            TIMESTAMP + " [Payara] [INFO] levelValue: 800 no marker"
+        };
+        for (String line : lines) {
+            assertSame(line, LogUtils.trimLog(line));
+        }
+    }
+
+    @Test
+    public void testRecordFieldsSplitByLineTerminator() {
+        String[] terminators = {"\n", "\r", "\u0085", "\u2028", "\u2029"};
+        for (String terminator : terminators) {
+            String line = TIMESTAMP + " [Payara] [INFO]" + terminator + " [levelValue: 800] next line";
+            assertSame(line, LogUtils.trimLog(line));
+        }
+    }
+
+    @Test
+    public void testRecordAfterLineTerminator() {
+        String[] terminators = {"\n", "\r", "\u2028", "\u2029"};
+        for (String terminator : terminators) {
+            String line = "[garbage]" + terminator + TIMESTAMP + " [Payara] [INFO] [levelValue: 800] second";
+            assertEquals(TIME + "second", LogUtils.trimLog(line));
+        }
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author Gaurav Gupta
+ */
+public class OutputScannerTest {
+
+    @Test
+    public void testLineWithoutMarker() {
+        OutputScanner scanner = new OutputScanner()
+                .register("Payara Server is ready", OutputEvent.READY);
+        assertTrue(scanner.scan("Starting Payara Server").isEmpty());
+        assertTrue(scanner.scan("").isEmpty());
+    }
+
+    @Test
+    public void testMarkerAnywhereInLine() {
+        OutputScanner scanner = new OutputScanner()
+                .register("ready", OutputEvent.READY);
+        assertEquals(EnumSet.of(OutputEvent.READY), scanner.scan("ready"));
+        assertEquals(EnumSet.of(OutputEvent.READY), scanner.scan("server is ready"));
+        assertEquals(EnumSet.of(OutputEvent.READY), scanner.scan("ready to serve"));
+    }
+
+    @Test
+    public void testOverlappingMarkers() {
+        OutputScanner scanner = new OutputScanner()
+                .register("deployed", OutputEvent.DEPLOYED)
+                .register("was successfully deployed in", OutputEvent.LOADING_APPLICATION)
+                .register("not deployed", OutputEvent.DEPLOYMENT_FAILED);
+        assertEquals(EnumSet.of(OutputEvent.DEPLOYED, OutputEvent.LOADING_APPLICATION),
+                scanner.scan("app was successfully deployed in 120 ms"));
+        assertEquals(EnumSet.of(OutputEvent.DEPLOYED, OutputEvent.DEPLOYMENT_FAILED),
+                scanner.scan("app was not deployed"));
+    }
+
+    @Test
+    public void testMarkerAfterPartialMatch() {
+        // the partial matches are recovered through the failure links
+        OutputScanner scanner = new OutputScanner()
+                .register("abac", OutputEvent.READY)
+                .register("bad", OutputEvent.DEPLOYED);
+        assertEquals(EnumSet.of(OutputEvent.READY), scanner.scan("ababac"));
+        assertEquals(EnumSet.of(OutputEvent.DEPLOYED), scanner.scan("abad"));
+        assertTrue(scanner.scan("ababa").isEmpty());
+    }
+
+    @Test
+    public void testMarkerSplitAcrossLines() {
+        // each line is scanned from the initial state
+        OutputScanner scanner = new OutputScanner()
+                .register("Payara Micro URLs", OutputEvent.APPLICATION_URLS);
+        assertTrue(scanner.scan("Payara Mi").isEmpty());
+        assertTrue(scanner.scan("cro URLs").isEmpty());
+        assertEquals(EnumSet.of(OutputEvent.APPLICATION_URLS), scanner.scan("Payara Micro URLs:"));
+    }
+
+    @Test
+    public void testCharactersOutsideMarkerAlphabet() {
+        OutputScanner scanner = new OutputScanner()
+                .register("ok", OutputEvent.READY);
+        assertTrue(scanner.scan("\u00e9\u4e2d o k").isEmpty());
+        assertEquals(EnumSet.of(OutputEvent.READY), scanner.scan("\u4e2dok\u00e9"));
+    }
+
+    @Test
+    public void testRegisterAfterScan() {
+        OutputScanner scanner = new OutputScanner()
+                .register("ready", OutputEvent.READY);
+        assertTrue(scanner.scan("failed").isEmpty());
+        scanner.register("failed", OutputEvent.DEPLOYMENT_FAILED);
+        assertEquals(EnumSet.of(OutputEvent.DEPLOYMENT_FAILED), scanner.scan("failed"));
+    }
+
+    @Test
+    public void testSubscribersNotified() {
+        List<String> ready = new ArrayList<>();
+        List<String> deployed = new ArrayList<>();
+        OutputScanner scanner = new OutputScanner()
+                .register("ready", OutputEvent.READY)
+                .register("deployed", OutputEvent.DEPLOYED)
+                .subscribe(OutputEvent.READY, ready::add)
+                .subscribe(OutputEvent.DEPLOYED, deployed::add)
+                .subscribe(OutputEvent.DEPLOYED, deployed::add);
+        scanner.scan("starting");
+        scanner.scan("ready");
+        scanner.scan("deployed and ready");
+        assertEquals(List.of("ready", "deployed and ready"), ready);
+        assertEquals(Collections.nCopies(2, "deployed and ready"), deployed);
+    }
+
+}
@@ -63,7 +63,7 @@ public interface Configuration {
 
     String MICRO_THREAD_NAME = "PayaraMicroThread";
     String MICRO_READY_MESSAGE = "ready in";
-    
+
     // Log parser
     String INSTANCE_CONFIGURATION = " \"Instance Configuration\": {";
     String HOST_IP_PATTERN = "\"Host\": \"([^\"]+)\"";
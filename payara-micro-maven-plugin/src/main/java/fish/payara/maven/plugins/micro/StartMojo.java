@@ -38,7 +38,10 @@
  */
 package fish.payara.maven.plugins.micro;
 
+import fish.payara.maven.plugins.ConsoleSink;
 import fish.payara.maven.plugins.LogUtils;
+import fish.payara.maven.plugins.OutputEvent;
+import fish.payara.maven.plugins.OutputScanner;
 import fish.payara.maven.plugins.AutoDeployHandler;
 import fish.payara.maven.plugins.PropertiesUtils;
 import fish.payara.maven.plugins.StartTask;
@@ -62,6 +65,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import static fish.payara.maven.plugins.DevStateStore.MICRO_NAMESPACE;
 import static fish.payara.maven.plugins.micro.Configuration.*;
 import java.awt.Desktop;
 import java.net.URI;
@@ -69,6 +73,8 @@ import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.openqa.selenium.WebDriver;
@@ -467,7 +473,7 @@ public class StartMojo extends BasePayaraMojo implements StartTask {
             }
             if (driver != null) {
                 try {
-                    PropertiesUtils.saveProperties(payaraMicroURL, driver.getCurrentUrl());
+                    PropertiesUtils.saveProperties(MICRO_NAMESPACE, payaraMicroURL, driver.getCurrentUrl());
                 } catch (Throwable t) {
                     getLog().debug(t);
                 } finally {
@@ -582,15 +588,15 @@ public class StartMojo extends BasePayaraMojo implements StartTask {
     private void redirectStream(final InputStream inputStream, final PrintStream printStream) {
         final Thread thread = new Thread(threadGroup, () -> {
             BufferedReader br;
-            StringBuilder sb = new StringBuilder();
+            OutputScanner scanner = new OutputScanner()
+                    .register(MICRO_READY_MESSAGE, OutputEvent.READY);
 
             String line;
-            try {
+            try (ConsoleSink console = new ConsoleSink(printStream)) {
                 br = new BufferedReader(new InputStreamReader(inputStream));
                 while ((line = br.readLine()) != null) {
-                    sb.append(line);
-                    printStream.println(line);
-                    if (!immediateExit && sb.toString().contains(MICRO_READY_MESSAGE)) {
+                    console.println(line);
+                    if (!immediateExit && scanner.scan(line).contains(OutputEvent.READY)) {
                         microProcessorThread.interrupt();
                         br.close();
                         break;
@@ -610,42 +616,51 @@ public class StartMojo extends BasePayaraMojo implements StartTask {
                 if (liveReload && outputStream instanceof PrintStream) {
                     String line;
                     BufferedReader br = new BufferedReader(new InputStreamReader(inputStream));
-                    PrintStream printStream = (PrintStream) outputStream;
-
-                    while ((line = br.readLine()) != null) {
-                        printStream.println(trimLog ? LogUtils.trimLog(line) : line);
-                        if (hostIp == null && line.endsWith(INSTANCE_CONFIGURATION)) {
-                            parseInstanceConfig(br, printStream);
-                        } else if (payaraMicroURL == null && line.contains(PAYARA_MICRO_URLS)) {
-                            parseMicroUrl(br, printStream);
-                        } else if (line.contains(APP_DEPLOYMENT_FAILED)) {
-                            WebDriverFactory.updateTitle(APP_DEPLOYMENT_FAILED_MESSAGE, getEnvironment().getMavenProject(), driver, this.getLog());
-                        } else if (payaraMicroURL != null
-                                && payaraMicroURL.isEmpty()
-                                && driver == null
-                                && line.contains(LOADING_APPLICATION)) {
-                            parseContextRoot(line);
-                        } else if (payaraMicroURL != null
-                                && payaraMicroURL.isEmpty()
-                                && driver == null
-                                && line.contains(APP_DEPLOYED)) {
-                            String appName = parseDeployedApp(line);
-                            if (contextRoot == null) {
-                                contextRoot = contextRoots.get(appName);
+                    OutputScanner scanner = createOutputScanner();
+
+                    try (ConsoleSink console = new ConsoleSink((PrintStream) outputStream,
+                            trimLog ? LogUtils::trimLog : UnaryOperator.identity())) {
+                        while ((line = br.readLine()) != null) {
+                            console.println(line);
+                            Set<OutputEvent> events = scanner.scan(line);
+                            if (events.isEmpty()) {
+                                continue;
                             }
-                            openApp();
-                        } else if (payaraMicroURL != null
-                                && !payaraMicroURL.isEmpty()
-                                && driver != null
-                                && line.contains(APP_DEPLOYED)) {
-                            try {
-                                driver.navigate().refresh();
-                            } catch (Exception ex) {
-                                getLog().debug("Error in refreshing with WebDriver", ex);
+                            if (hostIp == null
+                                    && events.contains(OutputEvent.INSTANCE_CONFIGURATION)
+                                    && line.endsWith(INSTANCE_CONFIGURATION)) {
+                                parseInstanceConfig(br, console);
+                            } else if (payaraMicroURL == null && events.contains(OutputEvent.APPLICATION_URLS)) {
+                                parseMicroUrl(br, console);
+                            } else if (events.contains(OutputEvent.DEPLOYMENT_FAILED)) {
+                                WebDriverFactory.updateTitle(APP_DEPLOYMENT_FAILED_MESSAGE, getEnvironment().getMavenProject(), driver, this.getLog());
+                            } else if (payaraMicroURL != null
+                                    && payaraMicroURL.isEmpty()
+                                    && driver == null
+                                    && events.contains(OutputEvent.LOADING_APPLICATION)) {
+                                parseContextRoot(line);
+                            } else if (payaraMicroURL != null
+                                    && payaraMicroURL.isEmpty()
+                                    && driver == null
+                                    && events.contains(OutputEvent.DEPLOYED)) {
+                                String appName = parseDeployedApp(line);
+                                if (contextRoot == null) {
+                                    contextRoot = contextRoots.get(appName);
+                                }
+                                openApp();
+                            } else if (payaraMicroURL != null
+                                    && !payaraMicroURL.isEmpty()
+                                    && driver != null
+                                    && events.contains(OutputEvent.DEPLOYED)) {
+                                try {
+                                    driver.navigate().refresh();
+                                } catch (Exception ex) {
+                                    getLog().debug("Error in refreshing with WebDriver", ex);
+                                }
+                            } else if (autoDeploy
+                                    && events.contains(OutputEvent.INOTIFY_LIMIT_REACHED)) {
+                                getLog().error(WATCH_SERVICE_ERROR_MESSAGE);
                             }
-                        } else if (autoDeploy
-                                && line.contains(INOTIFY_USER_LIMIT_REACHED_MESSAGE)) {
-                            getLog().error(WATCH_SERVICE_ERROR_MESSAGE);
                         }
                     }
                 } else {
@@ -659,10 +674,20 @@ public class StartMojo extends BasePayaraMojo implements StartTask {
         thread.start();
     }
 
+    private OutputScanner createOutputScanner() {
+        return new OutputScanner()
+                .register(INSTANCE_CONFIGURATION, OutputEvent.INSTANCE_CONFIGURATION)
+                .register(PAYARA_MICRO_URLS, OutputEvent.APPLICATION_URLS)
+                .register(APP_DEPLOYMENT_FAILED, OutputEvent.DEPLOYMENT_FAILED)
+                .register(LOADING_APPLICATION, OutputEvent.LOADING_APPLICATION)
+                .register(APP_DEPLOYED, OutputEvent.DEPLOYED)
+                .register(INOTIFY_USER_LIMIT_REACHED_MESSAGE, OutputEvent.INOTIFY_LIMIT_REACHED);
+    }
+
     private void openApp() {
         try {
             driver = WebDriverFactory.createWebDriver(browser, getLog());
-            String url = PropertiesUtils.getProperty(payaraMicroURL, payaraMicroURL);
+            String url = PropertiesUtils.getProperty(MICRO_NAMESPACE, payaraMicroURL, payaraMicroURL);
             if ((url == null || url.isEmpty()) && hostIp != null && hostPort != null) {
                 url = "http://" + hostIp + ":" + hostPort;
                 if (contextRoot != null) {
@@ -685,11 +710,11 @@ public class StartMojo extends BasePayaraMojo implements StartTask {
         }
     }
 
-    private void parseInstanceConfig(BufferedReader br, PrintStream printStream) throws IOException {
+    private void parseInstanceConfig(BufferedReader br, ConsoleSink console) throws IOException {
         String hostIpLine = br.readLine();
         String hostPortLine = br.readLine();
-        printStream.println(LogUtils.highlight(hostIpLine));
-        printStream.println(LogUtils.highlight(hostPortLine));
+        console.println(hostIpLine, LogUtils::highlight);
+        console.println(hostPortLine, LogUtils::highlight);
         // Extract IP address
         Pattern ipRegex = Pattern.compile(HOST_IP_PATTERN);
         Matcher ipMatcher = ipRegex.matcher(hostIpLine);
@@ -705,11 +730,11 @@ public class StartMojo extends BasePayaraMojo implements StartTask {
         }
     }
 
-    private void parseMicroUrl(BufferedReader br, PrintStream printStream) throws IOException {
+    private void parseMicroUrl(BufferedReader br, ConsoleSink console) throws IOException {
         String line = br.readLine();
         if (line != null) {
             payaraMicroURL = line.trim();
-            printStream.println(LogUtils.highlight(payaraMicroURL));
+            console.println(payaraMicroURL, LogUtils::highlight);
             if (!payaraMicroURL.isEmpty()) {
                 openApp();
             }
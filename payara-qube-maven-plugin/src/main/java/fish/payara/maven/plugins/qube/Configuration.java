@@ -42,5 +42,4 @@ public interface Configuration {
 
     String CLIENT_ID = "qeqSpqVZtHGbr0YU75Z9p87HMle0RA5a";
     String CLIENT_NAME = "Payara Qube Maven Plugin";
-
 }
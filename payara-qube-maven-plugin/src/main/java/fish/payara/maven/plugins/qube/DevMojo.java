@@ -45,6 +45,7 @@ import fish.payara.maven.plugins.AutoDeployHandler;
 import fish.payara.maven.plugins.PropertiesUtils;
 import fish.payara.maven.plugins.StartTask;
 import fish.payara.maven.plugins.WebDriverFactory;
+import static fish.payara.maven.plugins.DevStateStore.QUBE_NAMESPACE;
 import fish.payara.qube.client.SelectionException;
 import fish.payara.tools.qube.ApplicationContext;
 import fish.payara.tools.qube.DeployApplication;
@@ -111,7 +112,7 @@ public class DevMojo extends BasePayaraMojo implements StartTask {
             }
             if (driver != null) {
                 try {
-                    PropertiesUtils.saveProperties(appUrl, driver.getCurrentUrl());
+                    PropertiesUtils.saveProperties(QUBE_NAMESPACE, appUrl, driver.getCurrentUrl());
                 } catch (Throwable t) {
                     context.getOutput().error("Failed to save properties after execution.", t);
                 } finally {
@@ -221,7 +222,7 @@ public class DevMojo extends BasePayaraMojo implements StartTask {
     }
 
     private void openBrowser() {
-        String url = PropertiesUtils.getProperty(appUrl, appUrl);
+        String url = PropertiesUtils.getProperty(QUBE_NAMESPACE, appUrl, appUrl);
         try {
             driver = WebDriverFactory.createWebDriver(browser, getLog());
             driver.get(url);
@@ -38,6 +38,8 @@
  */
 package fish.payara.maven.plugins.server;
 
+import fish.payara.maven.plugins.server.manager.DeploymentProgress;
+import fish.payara.maven.plugins.server.utils.ZipEnvelope;
 import static fish.payara.maven.plugins.server.manager.InstanceManager.CONTENT_TYPE_JSON;
 
 /**
@@ -52,9 +54,13 @@ public class Command {
     private String instanceName;
     private String path;
     private String query;
+    private boolean queryEncoded;
     private boolean dirDeploy;
     private String contextRoot;
     private boolean hotDeploy;
+    private boolean keepSessions;
+    private DeploymentProgress progress;
+    private ZipEnvelope envelope;
     private String contentType = CONTENT_TYPE_JSON;
 
     public Command(String rootPath, String command, String value) {
@@ -83,6 +89,17 @@ public class Command {
         return query;
     }
 
+    /**
+     * Whether the query is already percent-encoded, and sent as is.
+     */
+    public boolean isQueryEncoded() {
+        return queryEncoded;
+    }
+
+    public void setQueryEncoded(boolean queryEncoded) {
+        this.queryEncoded = queryEncoded;
+    }
+
     public boolean isDirDeploy() {
         return dirDeploy;
     }
@@ -115,6 +132,33 @@ public class Command {
         this.hotDeploy = hotDeploy;
     }
 
+    public boolean isKeepSessions() {
+        return keepSessions;
+    }
+
+    public void setKeepSessions(boolean keepSessions) {
+        this.keepSessions = keepSessions;
+    }
+
+    public DeploymentProgress getProgress() {
+        return progress;
+    }
+
+    public void setProgress(DeploymentProgress progress) {
+        this.progress = progress;
+    }
+
+    /**
+     * The archive wrapped for the upload, built once for all the attempts.
+     */
+    public ZipEnvelope getEnvelope() {
+        return envelope;
+    }
+
+    public void setEnvelope(ZipEnvelope envelope) {
+        this.envelope = envelope;
+    }
+
     public String getInstanceName() {
         return instanceName;
     }
@@ -38,8 +38,10 @@
 package fish.payara.maven.plugins.server;
 
 import java.io.File;
+import java.util.concurrent.CancellationException;
 import fish.payara.maven.plugins.AutoDeployHandler;
 import fish.payara.maven.plugins.WebDriverFactory;
+import fish.payara.maven.plugins.server.manager.DeploymentHandle;
 
 /**
  *
@@ -58,8 +60,16 @@ public class ServerAutoDeployHandler extends AutoDeployHandler {
     @Override
     public void reload(boolean rebootRequired) {
         WebDriverFactory.updateTitle(RELOADING, project, start.getDriver(), log);
-        start.deployApplication();
-        WebDriverFactory.updateTitle("", project, start.getDriver(), log);
+        DeploymentHandle deployment = start.deployApplication(false);
+        // the next build waits until the deployment works on a copy of the
+        // archive, or is over for an exploded application
+        deployment.getProgress().filesReleased().join();
+        deployment.getResult().whenComplete((url, ex) -> {
+            // a superseded deployment leaves the title to the one replacing it
+            if (!(ex instanceof CancellationException)) {
+                WebDriverFactory.updateTitle("", project, start.getDriver(), log);
+            }
+        });
     }
 
 }
@@ -45,8 +45,15 @@ import fish.payara.maven.plugins.server.manager.RemoteInstanceManager;
 import fish.payara.maven.plugins.server.manager.PayaraServerLocalInstance;
 import fish.payara.maven.plugins.server.manager.LocalInstanceManager;
 import fish.payara.maven.plugins.server.manager.InstanceManager;
+import fish.payara.maven.plugins.server.manager.DeploymentHandle;
+import fish.payara.maven.plugins.server.manager.DeploymentProgress;
+import fish.payara.maven.plugins.server.manager.MultiTargetDeployer;
+import fish.payara.maven.plugins.server.manager.RetryPolicy;
 import fish.payara.maven.plugins.AutoDeployHandler;
+import fish.payara.maven.plugins.ConsoleSink;
 import fish.payara.maven.plugins.LogUtils;
+import fish.payara.maven.plugins.OutputEvent;
+import fish.payara.maven.plugins.OutputScanner;
 import fish.payara.maven.plugins.PropertiesUtils;
 import fish.payara.maven.plugins.StartTask;
 import fish.payara.maven.plugins.WebDriverFactory;
@@ -62,25 +69,39 @@ import org.twdata.maven.mojoexecutor.MojoExecutor;
 
 import java.io.*;
 import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 
+import static fish.payara.maven.plugins.DevStateStore.SERVER_NAMESPACE;
 import static fish.payara.maven.plugins.server.Configuration.*;
 import fish.payara.maven.plugins.server.manager.PayaraServerInstance;
 import static fish.payara.maven.plugins.server.manager.PayaraServerLocalInstance.HTTP;
 import fish.payara.maven.plugins.server.response.JsonResponse;
 import fish.payara.maven.plugins.server.response.Response;
+import fish.payara.maven.plugins.server.utils.DeploymentManifest;
+import fish.payara.maven.plugins.server.utils.LogSummarizer;
+import fish.payara.maven.plugins.server.utils.LogTailer;
 import fish.payara.maven.plugins.server.utils.TempDirectoryResolver;
+import fish.payara.maven.plugins.server.utils.ZipEnvelope;
 import fish.payara.tools.ai.JMXFetchSpecificMBean;
 import fish.payara.tools.ai.lang.PreferencesManager;
 import java.awt.Desktop;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Scanner;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import org.apache.commons.lang.StringUtils;
@@ -99,6 +120,15 @@ public class StartMojo extends ServerMojo implements StartTask {
 
     private static final String ERROR_MESSAGE = "Errors occurred while executing payara-server.";
     private static final String REMOTE_INSTANCE_NOT_RUNNING_MESSAGE = "The remote Payara server instance is not running.";
+    private static final String LOGS_SUMMARY_COMMAND = "logs summary";
+    private static final String BUILD_LOG_COMMAND = "build log";
+    private static final String ADMIN_METRICS_COMMAND = "admin metrics";
+    private static final String ADMIN_METRICS_FILE = "payara-admin-metrics.json";
+    private static final String DEPLOYMENT_MANIFEST_DIRECTORY = "payara-deploy";
+    private static final String SNAPSHOT_DIRECTORY = "snapshot";
+    private static final int LOG_SUMMARY_RECORDS = 2000;
+    private static final int LOG_SUMMARY_AGENT_BUDGET = 5000;
+    private static final int LOG_SUMMARY_CONSOLE_BUDGET = 16 * 1024;
 
     /**
      * Runs Payara server as a daemon (background process).
@@ -201,17 +231,46 @@ public class StartMojo extends ServerMojo implements StartTask {
     @Parameter(property = "payara.http.read.timeout", defaultValue = "${env.PAYARA_HTTP_READ_TIMEOUT}")
     public Integer httpReadTimeout;
 
+    /**
+     * Number of times an admin command failing on a connection error is
+     * sent again.
+     */
+    @Parameter(property = "payara.admin.retries", defaultValue = "${env.PAYARA_ADMIN_RETRIES}")
+    private Integer adminRetries;
+
+    /**
+     * Time (in miliseconds) after which an admin command failing on a
+     * connection error is not sent again. Uploads of the application are
+     * only limited by <code>adminRetries</code>.
+     */
+    @Parameter(property = "payara.admin.retry.budget", defaultValue = "${env.PAYARA_ADMIN_RETRY_BUDGET}")
+    private Integer adminRetryBudget;
+
+    /**
+     * Additional remote servers the application is deployed to, along with
+     * the remote server of <code>hostName</code>.
+     */
+    @Parameter
+    private List<Target> targets;
+
+    /**
+     * Maximum number of remote servers deployed to at the same time.
+     */
+    @Parameter(property = "payara.deploy.parallelism", defaultValue = "${env.PAYARA_DEPLOY_PARALLELISM}")
+    private Integer deployParallelism;
+
     private Process serverProcess;
     private Thread serverProcessorThread;
     private final ThreadGroup threadGroup;
     private AutoDeployHandler autoDeployHandler;
     private WebDriver driver;
-    private String applicationURL;
-    private InstanceManager serverManager;
+    private volatile String applicationURL;
+    private InstanceManager<?> serverManager;
     private String appPath, projectName;
     private PayaraServerInstance instance;
     private PayaraAIAgent payaraAIAgent;
     private boolean monitoringEnabled;
+    private final Map<Target, RemoteInstanceManager> targetManagers = new LinkedHashMap<>();
 
     StartMojo() {
         threadGroup = new ThreadGroup(SERVER_THREAD_NAME);
@@ -246,6 +305,15 @@ public class StartMojo extends ServerMojo implements StartTask {
         if (aiAgent == null) {
             aiAgent = false;
         }
+        if (deployParallelism == null) {
+            deployParallelism = 4;
+        }
+        if (adminRetries == null) {
+            adminRetries = InstanceManager.DEFAULT_RETRY_POLICY.getMaxAttempts() - 1;
+        }
+        if (adminRetryBudget == null) {
+            adminRetryBudget = (int) InstanceManager.DEFAULT_RETRY_POLICY.getBudget();
+        }
         if (autoDeploy && autoDeployHandler == null) {
             autoDeployHandler = new ServerAutoDeployHandler(this, webappDirectory);
             Thread devModeThread = new Thread(autoDeployHandler);
@@ -311,24 +379,9 @@ public class StartMojo extends ServerMojo implements StartTask {
 
         serverProcessorThread = new Thread(threadGroup, () -> {
             if (remote) {
-                instance = new PayaraServerRemoteInstance(hostName);
-                instance.setAdminUser(adminUser);
-                instance.setAdminPassword(getAdminPassword());
-                if (adminPort != null) {
-                    instance.setAdminPort(Integer.parseInt(adminPort));
-                }
-                if (httpPort != null) {
-                    instance.setHttpPort(Integer.parseInt(httpPort));
-                }
-                if (httpsPort != null) {
-                    instance.setHttpsPort(Integer.parseInt(httpsPort));
-                }
-                instance.setHttpConnectionTimeout(httpConnectionTimeout);
-                instance.setHttpReadTimeout(httpReadTimeout);
-                if (protocol != null) {
-                    instance.setProtocol(protocol);
-                }
+                instance = createRemoteInstance(hostName, adminPort, httpPort, httpsPort, protocol);
                 serverManager = new RemoteInstanceManager((PayaraServerRemoteInstance) instance, getLog());
+                serverManager.setRetryPolicy(retryPolicy());
                 if (serverManager.isServerAlreadyRunning()) {
                     Thread logThread = streamRemoteServerLog();
                     appPath = evaluateProjectArtifactAbsolutePath("." + mavenProject.getPackaging());
@@ -364,6 +417,7 @@ public class StartMojo extends ServerMojo implements StartTask {
                         instance.setProtocol(protocol);
                     }
                     serverManager = new LocalInstanceManager((PayaraServerLocalInstance) instance, getLog());
+                    serverManager.setRetryPolicy(retryPolicy());
                     if (!serverManager.isServerAlreadyRunning()) {
                         ProcessBuilder processBuilder = ((LocalInstanceManager) serverManager).startServer(debug, debugPort, javaCommandLineOptions, commandLineOptions);
                         getLog().info("Starting Payara Server [" + path + "] with the these arguments: " + processBuilder.command());
@@ -427,12 +481,199 @@ public class StartMojo extends ServerMojo implements StartTask {
         }
     }
 
+    /**
+     * Deploys the application and waits for the deployment to complete.
+     */
     public void deployApplication() {
-        serverManager.undeployApplication(projectName, instanceName);
-        URI appUri = serverManager.deployApplication(projectName, appPath, instanceName, contextRoot, exploded, hotDeploy);
+        deployApplication(false).getResult().exceptionally(ex -> null).join();
+    }
+
+    /**
+     * Deploys the application in the background. A deployment waiting for
+     * the running one is superseded by the next one, so that a burst of
+     * changes is deployed once.
+     */
+    public DeploymentHandle deployApplication(boolean force) {
+        return serverManager.submitDeployment(projectName, progress -> deployApplication(force, progress));
+    }
+
+    /**
+     * Deploys the application. With auto deploy, the next build may replace
+     * the archive during the upload, so a copy of it is deployed and the
+     * application files are released once the copy is taken. An exploded
+     * application is deployed in place.
+     */
+    private URI deployApplication(boolean force, DeploymentProgress progress) {
+        String archive = appPath;
+        if (autoDeploy && !exploded) {
+            try {
+                archive = snapshotArchive().toString();
+                progress.releaseFiles();
+            } catch (IOException ex) {
+                getLog().warn("Error in copying " + appPath + ", deploying it in place: " + ex.getMessage());
+            }
+        }
+        return deployApplication(archive, force, progress);
+    }
+
+    /**
+     * Copies the archive to the same place for every deployment, keeping its
+     * name which the server uses for the deployment. The checksum of the
+     * upload is computed along with the copy.
+     */
+    private Path snapshotArchive() throws IOException {
+        Path archive = Paths.get(appPath);
+        Path directory = Files.createDirectories(Paths.get(getBaseDir(), DEPLOYMENT_MANIFEST_DIRECTORY, SNAPSHOT_DIRECTORY));
+        Path snapshot = directory.resolve(archive.getFileName());
+        ZipEnvelope.copy(archive, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Deploys the application, skipping the upload when the archive has not
+     * changed since it was last deployed to this server unless forced.
+     */
+    private URI deployApplication(String archive, boolean force, DeploymentProgress progress) {
+        DeploymentManifest manifest = readDeploymentManifest(archive);
+        Path manifestFile = deploymentManifestFile();
+        if (manifest != null && applicationURL != null && !force) {
+            DeploymentManifest previous = DeploymentManifest.load(manifestFile);
+            if (previous != null) {
+                List<String> changes = manifest.changesSince(previous);
+                if (changes.isEmpty()) {
+                    getLog().info(projectName + " is unchanged since the last deployment, skipping the upload.");
+                    return URI.create(applicationURL);
+                }
+                getLog().info(changes.size() + " of " + manifest.size() + " entries changed ("
+                        + manifest.sizeOf(changes) / 1024 + " KB), redeploying " + projectName);
+            }
+        }
+        // a forced deploy replaces the application in place, keeping the
+        // sessions when it was already deployed in this session
+        boolean redeploy = applicationURL != null;
+        URI appUri;
+        if (remote && targets != null && !targets.isEmpty()) {
+            appUri = deployToTargets(archive, redeploy);
+        } else {
+            appUri = serverManager.deployApplication(projectName, archive, instanceName, contextRoot, exploded, hotDeploy, redeploy, progress);
+        }
         if (appUri != null) {
             applicationURL = appUri.toString();
         }
+        if (manifest != null) {
+            try {
+                if (appUri != null) {
+                    manifest.store(manifestFile);
+                } else {
+                    Files.deleteIfExists(manifestFile);
+                }
+            } catch (IOException ex) {
+                getLog().debug("Error in storing the deployment manifest", ex);
+            }
+        }
+        return appUri;
+    }
+
+    /**
+     * Deploys the application to the remote server and to the additional
+     * targets concurrently, returning the URL on the remote server. The
+     * archive is wrapped once for all the uploads, its checksum being
+     * computed once.
+     */
+    private URI deployToTargets(String archive, boolean redeploy) {
+        ZipEnvelope envelope = uploadEnvelope(archive);
+        Map<String, Callable<URI>> deployments = new LinkedHashMap<>();
+        String mainTarget = targetName(instance, instanceName);
+        deployments.put(mainTarget, () -> serverManager.deployApplication(
+                projectName, archive, instanceName, contextRoot, exploded, hotDeploy, redeploy, null, envelope));
+        for (Target target : targets) {
+            RemoteInstanceManager manager = targetManagers.computeIfAbsent(target, t -> {
+                RemoteInstanceManager targetManager = new RemoteInstanceManager(
+                        createRemoteInstance(
+                                t.getHostName() != null ? t.getHostName() : hostName,
+                                t.getAdminPort() != null ? t.getAdminPort() : adminPort,
+                                t.getHttpPort() != null ? t.getHttpPort() : httpPort,
+                                t.getHttpsPort() != null ? t.getHttpsPort() : httpsPort,
+                                t.getProtocol() != null ? t.getProtocol() : protocol),
+                        getLog());
+                targetManager.setRetryPolicy(retryPolicy());
+                return targetManager;
+            });
+            String targetInstance = target.getInstanceName() != null ? target.getInstanceName() : instanceName;
+            deployments.put(targetName(manager.getPayaraServer(), targetInstance), () -> manager.deployApplication(
+                    projectName, archive, targetInstance, contextRoot, exploded, hotDeploy, redeploy, null, envelope));
+        }
+        try {
+            return new MultiTargetDeployer(deployParallelism, getLog()).deploy(deployments).get(mainTarget);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * The archive wrapped for the upload, or null when it is left to each
+     * upload.
+     */
+    private ZipEnvelope uploadEnvelope(String archive) {
+        if (exploded) {
+            return null;
+        }
+        try {
+            return InstanceManager.uploadEnvelope(new File(archive));
+        } catch (IOException ex) {
+            getLog().debug("Error in reading " + archive, ex);
+            return null;
+        }
+    }
+
+    private RetryPolicy retryPolicy() {
+        return InstanceManager.DEFAULT_RETRY_POLICY.withLimits(adminRetries + 1, adminRetryBudget);
+    }
+
+    private static String targetName(PayaraServerInstance server, String instanceName) {
+        return server.getHost() + ':' + server.getAdminPort() + (instanceName != null ? '/' + instanceName : "");
+    }
+
+    private PayaraServerRemoteInstance createRemoteInstance(String host, String adminPort, String httpPort, String httpsPort, String protocol) {
+        PayaraServerRemoteInstance remoteInstance = new PayaraServerRemoteInstance(host);
+        remoteInstance.setAdminUser(adminUser);
+        remoteInstance.setAdminPassword(getAdminPassword());
+        if (adminPort != null) {
+            remoteInstance.setAdminPort(Integer.parseInt(adminPort));
+        }
+        if (httpPort != null) {
+            remoteInstance.setHttpPort(Integer.parseInt(httpPort));
+        }
+        if (httpsPort != null) {
+            remoteInstance.setHttpsPort(Integer.parseInt(httpsPort));
+        }
+        remoteInstance.setHttpConnectionTimeout(httpConnectionTimeout);
+        remoteInstance.setHttpReadTimeout(httpReadTimeout);
+        if (protocol != null) {
+            remoteInstance.setProtocol(protocol);
+        }
+        return remoteInstance;
+    }
+
+    private DeploymentManifest readDeploymentManifest(String archive) {
+        if (exploded) {
+            return null;
+        }
+        try {
+            return DeploymentManifest.of(new File(archive));
+        } catch (IOException ex) {
+            getLog().debug("Error in reading the deployment manifest of " + appPath, ex);
+            return null;
+        }
+    }
+
+    /**
+     * The manifest of the last archive deployed to this server.
+     */
+    private Path deploymentManifestFile() {
+        return Paths.get(getBaseDir(), DEPLOYMENT_MANIFEST_DIRECTORY,
+                projectName + '@' + instance.getHost() + '-' + instance.getAdminPort() + ".properties");
     }
 
     private Thread killServerProcess() {
@@ -450,9 +691,17 @@ public class StartMojo extends ServerMojo implements StartTask {
             if (autoDeployHandler != null) {
                 autoDeployHandler.stop();
             }
+            if (serverManager instanceof LocalInstanceManager) {
+                ((LocalInstanceManager) serverManager).closeAsadminSession();
+            }
+            if (!InstanceManager.getMetrics().isEmpty()) {
+                getLog().info("Admin commands of this session:" + System.lineSeparator()
+                        + InstanceManager.getMetrics().summary());
+                exportAdminMetrics();
+            }
             if (driver != null) {
                 try {
-                    PropertiesUtils.saveProperties(applicationURL, driver.getCurrentUrl());
+                    PropertiesUtils.saveProperties(SERVER_NAMESPACE, applicationURL, driver.getCurrentUrl());
                 } catch (Throwable t) {
                     getLog().debug(t);
                 } finally {
@@ -629,9 +878,22 @@ public class StartMojo extends ServerMojo implements StartTask {
                                 }
                             }
                         } else if (userQuery.equals("deploy")) {
-                            deployApplication();
+                            deployApplication(true);
                         } else if (userQuery.equals("undeploy")) {
                             serverManager.undeployApplication(projectName, instanceName);
+                            Files.deleteIfExists(deploymentManifestFile());
+                        } else if (userQuery.equals(BUILD_LOG_COMMAND)) {
+                            printLastBuildLog();
+                        } else if (userQuery.equals(ADMIN_METRICS_COMMAND)) {
+                            getLog().info("Admin commands of this session:" + System.lineSeparator()
+                                    + InstanceManager.getMetrics().summary());
+                            exportAdminMetrics();
+                        } else if (userQuery.equals(LOGS_SUMMARY_COMMAND)) {
+                            if (instance instanceof PayaraServerLocalInstance) {
+                                getLog().info(summarizeServerLog(LOG_SUMMARY_CONSOLE_BUDGET));
+                            } else {
+                                getLog().warn("Log summary is only available for a local instance.");
+                            }
                         } else if (userQuery.equals("exit")) {
                             Thread.currentThread().interrupt();
                             getLog().info("watchAsadminCommand exit");
@@ -665,7 +927,7 @@ public class StartMojo extends ServerMojo implements StartTask {
                                 getLog().info(MarkdownToCmdHighlighter.convertMdToAnsi(finalRes));
                             } else if (payaraAIAgent.isServerLog(response)
                                     && instance instanceof PayaraServerLocalInstance) {
-                                String finalRes = payaraAIAgent.processServerLogData(userQuery, ((PayaraServerLocalInstance)instance).readServerLog());
+                                String finalRes = payaraAIAgent.processServerLogData(userQuery, summarizeServerLog(LOG_SUMMARY_AGENT_BUDGET));
                                 getLog().info(MarkdownToCmdHighlighter.convertMdToAnsi(finalRes));
                             } else if (payaraAIAgent.isDomainXml(response)) {
                                 String finalRes = payaraAIAgent.processServerLogData(userQuery, ((PayaraServerLocalInstance)instance).readDomainXml());
@@ -685,19 +947,61 @@ public class StartMojo extends ServerMojo implements StartTask {
         thread.start();
     }
 
+    private void printLastBuildLog() throws IOException {
+        Path buildLog = autoDeployHandler == null ? null : autoDeployHandler.getLastBuildLog();
+        if (buildLog == null || !Files.exists(buildLog)) {
+            getLog().warn("No auto-build output available.");
+            return;
+        }
+        try (Stream<String> lines = Files.lines(buildLog)) {
+            lines.forEach(System.out::println);
+        }
+    }
+
+    private void exportAdminMetrics() {
+        Path file = Paths.get(getBaseDir(), ADMIN_METRICS_FILE);
+        try {
+            InstanceManager.getMetrics().export(file);
+            getLog().info("Admin metrics written to " + file);
+        } catch (IOException ex) {
+            getLog().debug("Error in writing the admin metrics", ex);
+        }
+    }
+
+    private String summarizeServerLog(int byteBudget) throws IOException {
+        List<String> records = ((PayaraServerLocalInstance) instance).getServerLogStore().last(LOG_SUMMARY_RECORDS, Level.ALL);
+        return new LogSummarizer(byteBudget).summarize(records);
+    }
+
     private void callEndpoint(String userQuery, String response) throws IOException {
-        StringBuilder sb = new StringBuilder();
+        List<String> endpoints = new ArrayList<>();
         for (String endpoint : payaraAIAgent.getRestEndpoint(response)) {
-            endpoint = endpoint.replace("${appname}", projectName);
+            endpoints.add(endpoint);
+        }
+        String finalRes = payaraAIAgent.processMonitoringData(userQuery, readEndpoints(endpoints));
+        callChildEndpoint(userQuery, finalRes);
+    }
+
+    /**
+     * Reads the endpoints concurrently, formatting their responses for the
+     * agent.
+     */
+    private String readEndpoints(List<String> endpoints) {
+        List<String> resolved = new ArrayList<>();
+        for (String endpoint : endpoints) {
+            resolved.add(endpoint.replace("${appname}", projectName));
+        }
+        Map<String, Response> responses = serverManager.runEndpoints(resolved);
+        StringBuilder sb = new StringBuilder();
+        for (String endpoint : resolved) {
             sb.append(endpoint).append('\n');
-            Response res = serverManager.runEndpoint(endpoint);
+            Response res = responses.get(endpoint);
             if (res != null) {
                 String endpointResponse = ((JsonResponse) res).getJsonBody().getJSONObject("extraProperties").toString();
                 sb.append(endpointResponse).append("\n=================\n");
             }
         }
-        String finalRes = payaraAIAgent.processMonitoringData(userQuery, sb.toString());
-        callChildEndpoint(userQuery, finalRes);
+        return sb.toString();
     }
     
     private void callChildEndpoint(String userQuery, String response) throws IOException {
@@ -707,24 +1011,17 @@ public class StartMojo extends ServerMojo implements StartTask {
             } else if (response.startsWith("```")) {
                 response = response.substring(3, response.length() - 3);
             }
-            StringBuilder sb = new StringBuilder();
             JSONObject jsonObject = new JSONObject(response);
             if (jsonObject.has("response")) {
                 getLog().info(MarkdownToCmdHighlighter.convertMdToAnsi(jsonObject.getString("response")));
             }
             if (jsonObject.has("childResource")
                     && jsonObject.getJSONArray("childResource").length() > 0) {
+                List<String> endpoints = new ArrayList<>();
                 for (int i = 0; i < jsonObject.getJSONArray("childResource").length(); i++) {
-                    String endpoint = jsonObject.getJSONArray("childResource").getString(i);
-                    endpoint = endpoint.replace("${appname}", projectName);
-                    sb.append(endpoint).append('\n');
-                    Response res = serverManager.runEndpoint(endpoint);
-                    if (res != null) {
-                        String endpointResponse = ((JsonResponse) res).getJsonBody().getJSONObject("extraProperties").toString();
-                        sb.append(endpointResponse).append("\n=================\n");
-                    }
+                    endpoints.add(jsonObject.getJSONArray("childResource").getString(i));
                 }
-                String finalRes = payaraAIAgent.processMonitoringData(userQuery, sb.toString());
+                String finalRes = payaraAIAgent.processMonitoringData(userQuery, readEndpoints(endpoints));
                 callChildEndpoint(userQuery, finalRes);
             }
         } catch (JSONException e) {
@@ -747,14 +1044,8 @@ public class StartMojo extends ServerMojo implements StartTask {
 
     private Thread streamRemoteServerLog() {
         final Thread thread = new Thread(threadGroup, () -> {
-            try {
-                while (true) {
-                    String log = ((RemoteInstanceManager) serverManager).fetchLogs(instanceName);
-                    if (log != null && !log.isEmpty()) {
-                        System.out.println(log);
-                    }
-                    Thread.sleep(2000);
-                }
+            try (ConsoleSink console = new ConsoleSink(System.out)) {
+                ((RemoteInstanceManager) serverManager).streamLogs(instanceName, console::println);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
             }
@@ -768,19 +1059,8 @@ public class StartMojo extends ServerMojo implements StartTask {
         final Thread thread = new Thread(threadGroup, () -> {
             File logFile = new File(instance.getServerLog());
             if (logFile.exists()) {
-                try (RandomAccessFile raf = new RandomAccessFile(logFile, "r")) {
-                    raf.seek(raf.length());
-                    String line;
-                    while (true) {
-                        while ((line = raf.readLine()) != null) {
-                            System.out.println(line);
-                        }
-                        Thread.sleep(1000);
-                    }
-                } catch (IOException e) {
-                    getLog().error("Error occurred while streaming server.log", e);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
+                try (ConsoleSink console = new ConsoleSink(System.out)) {
+                    new LogTailer(logFile.toPath(), console::println, getLog()).run();
                 }
             } else {
                 getLog().warn("Log file does not exist: " + logFile.getAbsolutePath());
@@ -793,15 +1073,16 @@ public class StartMojo extends ServerMojo implements StartTask {
     private void redirectStream(final InputStream inputStream, final PrintStream printStream) {
         final Thread thread = new Thread(threadGroup, () -> {
             BufferedReader br;
-            StringBuilder sb = new StringBuilder();
+            OutputScanner scanner = new OutputScanner()
+                    .register(SERVER_READY_MESSAGE, OutputEvent.READY)
+                    .subscribe(OutputEvent.READY, ready -> serverManager.signalReady());
 
             String line;
-            try {
+            try (ConsoleSink console = new ConsoleSink(printStream)) {
                 br = new BufferedReader(new InputStreamReader(inputStream));
                 while ((line = br.readLine()) != null) {
-                    sb.append(line);
-                    printStream.println(line);
-                    if (!immediateExit && sb.toString().contains(SERVER_READY_MESSAGE)) {
+                    console.println(line);
+                    if (scanner.scan(line).contains(OutputEvent.READY) && !immediateExit) {
                         serverProcessorThread.interrupt();
                         br.close();
                         break;
@@ -821,24 +1102,35 @@ public class StartMojo extends ServerMojo implements StartTask {
                 if (liveReload && outputStream instanceof PrintStream) {
                     String line;
                     BufferedReader br = new BufferedReader(new InputStreamReader(inputStream));
-                    PrintStream printStream = (PrintStream) outputStream;
-
-                    while ((line = br.readLine()) != null) {
-                        printStream.println(trimLog ? LogUtils.trimLog(line) : line);
-                        if (line.contains(APP_DEPLOYMENT_FAILED)) {
-                            WebDriverFactory.updateTitle(APP_DEPLOYMENT_FAILED_MESSAGE, getEnvironment().getMavenProject(), driver, this.getLog());
-                        } else if (applicationURL != null
-                                && !applicationURL.isEmpty()
-                                && driver != null
-                                && line.contains(APP_DEPLOYED)) {
-                            try {
-                                driver.navigate().refresh();
-                            } catch (Exception ex) {
-                                getLog().debug("Error in refreshing with WebDriver", ex);
+                    OutputScanner scanner = createOutputScanner();
+
+                    try (ConsoleSink console = new ConsoleSink((PrintStream) outputStream,
+                            trimLog ? LogUtils::trimLog : UnaryOperator.identity())) {
+                        while ((line = br.readLine()) != null) {
+                            console.println(line);
+                            Set<OutputEvent> events = scanner.scan(line);
+                            if (events.isEmpty()) {
+                                continue;
+                            }
+                            if (events.contains(OutputEvent.READY)) {
+                                serverManager.signalReady();
+                            }
+                            // a single outcome per line, a failure taking precedence
+                            if (events.contains(OutputEvent.DEPLOYMENT_FAILED)) {
+                                WebDriverFactory.updateTitle(APP_DEPLOYMENT_FAILED_MESSAGE, getEnvironment().getMavenProject(), driver, this.getLog());
+                            } else if (applicationURL != null
+                                    && !applicationURL.isEmpty()
+                                    && driver != null
+                                    && events.contains(OutputEvent.DEPLOYED)) {
+                                try {
+                                    driver.navigate().refresh();
+                                } catch (Exception ex) {
+                                    getLog().debug("Error in refreshing with WebDriver", ex);
+                                }
+                            } else if (autoDeploy
+                                    && events.contains(OutputEvent.INOTIFY_LIMIT_REACHED)) {
+                                getLog().error(WATCH_SERVICE_ERROR_MESSAGE);
                             }
-                        } else if (autoDeploy
-                                && line.contains(INOTIFY_USER_LIMIT_REACHED_MESSAGE)) {
-                            getLog().error(WATCH_SERVICE_ERROR_MESSAGE);
                         }
                     }
                 } else {
@@ -852,10 +1144,18 @@ public class StartMojo extends ServerMojo implements StartTask {
         thread.start();
     }
 
+    private OutputScanner createOutputScanner() {
+        return new OutputScanner()
+                .register(SERVER_READY_MESSAGE, OutputEvent.READY)
+                .register(APP_DEPLOYMENT_FAILED, OutputEvent.DEPLOYMENT_FAILED)
+                .register(APP_DEPLOYED, OutputEvent.DEPLOYED)
+                .register(INOTIFY_USER_LIMIT_REACHED_MESSAGE, OutputEvent.INOTIFY_LIMIT_REACHED);
+    }
+
     private void openApp() {
         try {
             driver = WebDriverFactory.createWebDriver(browser, getLog());
-            String url = PropertiesUtils.getProperty(applicationURL, applicationURL);
+            String url = PropertiesUtils.getProperty(SERVER_NAMESPACE, applicationURL, applicationURL);
             if ((url == null || url.isEmpty())) {
                 url = instance.getProtocol() + "://" + instance.getHost() + ":" + (instance.getProtocol().equals(HTTP) ? instance.getHttpPort() : instance.getHttpsPort());
                 if (contextRoot != null) {
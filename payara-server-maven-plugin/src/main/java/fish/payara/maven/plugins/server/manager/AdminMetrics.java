@@ -0,0 +1,239 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins.server.manager;
+
+import java.io.IOException;
+import java.net.http.HttpResponse.BodyHandler;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import org.json.JSONObject;
+
+/**
+ * Latency and traffic of the admin commands sent during the session, per
+ * command.
+ * <p>
+ * Latencies are kept in histograms of power of two millisecond buckets, so
+ * that the percentiles reported are the upper bound of their bucket.
+ *
+ * @author Gaurav Gupta
+ */
+public class AdminMetrics {
+
+    private static final String ENDPOINT = "endpoint";
+
+    private final Map<String, CommandMetrics> commands = new ConcurrentSkipListMap<>();
+
+    /**
+     * Starts timing a call of the command. Commands without a root path,
+     * the monitoring and other REST endpoints, are recorded together.
+     */
+    public Sample start(String rootPath, String command) {
+        String name = rootPath == null || rootPath.isEmpty() ? ENDPOINT : command;
+        return new Sample(commands.computeIfAbsent(name, key -> new CommandMetrics()));
+    }
+
+    public boolean isEmpty() {
+        return commands.isEmpty();
+    }
+
+    /**
+     * Formats a table of the commands with their call count, failures,
+     * retries, latency percentiles and traffic.
+     */
+    public String summary() {
+        StringBuilder sb = new StringBuilder(String.format("%-16s %6s %5s %6s %9s %9s %9s %10s %10s %10s  %s%n",
+                "command", "calls", "fail", "retry", "p50", "p95", "max", "ttfb p50", "sent", "received", "status"));
+        commands.forEach((name, metrics) -> {
+            synchronized (metrics) {
+                sb.append(String.format("%-16s %6d %5d %6d %9s %9s %9s %10s %10s %10s  %s%n",
+                        name, metrics.calls, metrics.failures, metrics.retries,
+                        millis(metrics.total.percentile(50)), millis(metrics.total.percentile(95)),
+                        millis(metrics.total.max), millis(metrics.firstByte.percentile(50)),
+                        kilobytes(metrics.sent), kilobytes(metrics.received), metrics.statuses));
+            }
+        });
+        return sb.toString();
+    }
+
+    public JSONObject toJson() {
+        JSONObject json = new JSONObject();
+        commands.forEach((name, metrics) -> {
+            synchronized (metrics) {
+                JSONObject command = new JSONObject();
+                command.put("calls", metrics.calls);
+                command.put("failures", metrics.failures);
+                command.put("retries", metrics.retries);
+                command.put("sentBytes", metrics.sent);
+                command.put("receivedBytes", metrics.received);
+                command.put("statuses", new JSONObject(metrics.statuses));
+                command.put("totalMillis", metrics.total.toJson());
+                command.put("firstByteMillis", metrics.firstByte.toJson());
+                json.put(name, command);
+            }
+        });
+        return json;
+    }
+
+    public void export(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, toJson().toString(2).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String millis(long value) {
+        return value + " ms";
+    }
+
+    private static String kilobytes(long bytes) {
+        return bytes / 1024 + " KB";
+    }
+
+    /**
+     * A call being timed.
+     */
+    public static class Sample {
+
+        private final CommandMetrics metrics;
+        private final long start = System.nanoTime();
+        private volatile long firstByte;
+        private int retries;
+
+        private Sample(CommandMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        /**
+         * Wraps the body handler to record when the response headers arrive.
+         */
+        public <T> BodyHandler<T> handler(BodyHandler<T> handler) {
+            return info -> {
+                firstByte = System.nanoTime();
+                return handler.apply(info);
+            };
+        }
+
+        public void retried() {
+            retries++;
+        }
+
+        public void stop(int status, long sent, long received) {
+            long end = System.nanoTime();
+            synchronized (metrics) {
+                metrics.calls++;
+                metrics.retries += retries;
+                metrics.sent += Math.max(sent, 0);
+                metrics.received += Math.max(received, 0);
+                metrics.statuses.merge(status, 1, Integer::sum);
+                metrics.total.record(end - start);
+                if (firstByte != 0) {
+                    metrics.firstByte.record(firstByte - start);
+                }
+            }
+        }
+
+        /**
+         * Records a call that got no response.
+         */
+        public void failed() {
+            synchronized (metrics) {
+                metrics.calls++;
+                metrics.failures++;
+                metrics.retries += retries;
+                metrics.total.record(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private static class CommandMetrics {
+
+        private long calls;
+        private long failures;
+        private long retries;
+        private long sent;
+        private long received;
+        private final Map<Integer, Integer> statuses = new TreeMap<>();
+        private final Histogram total = new Histogram();
+        private final Histogram firstByte = new Histogram();
+    }
+
+    private static class Histogram {
+
+        private static final int BUCKETS = 24;
+
+        private final long[] buckets = new long[BUCKETS];
+        private long count;
+        private long sum;
+        private long max;
+
+        private void record(long nanos) {
+            long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+            buckets[Math.min(64 - Long.numberOfLeadingZeros(millis), BUCKETS - 1)]++;
+            count++;
+            sum += millis;
+            max = Math.max(max, millis);
+        }
+
+        private long percentile(int percentile) {
+            long rank = (count * percentile + 99) / 100;
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets[i];
+                if (seen >= rank && seen > 0) {
+                    return Math.min(i == 0 ? 0 : 1L << i, max);
+                }
+            }
+            return max;
+        }
+
+        private JSONObject toJson() {
+            JSONObject json = new JSONObject();
+            json.put("count", count);
+            json.put("mean", count == 0 ? 0 : sum / count);
+            json.put("p50", percentile(50));
+            json.put("p95", percentile(95));
+            json.put("p99", percentile(99));
+            json.put("max", max);
+            return json;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins.server.manager;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Long-lived <code>asadmin multimode</code> process running the commands
+ * that can only run through the asadmin client, so that they do not pay for
+ * a new client JVM each.
+ * <p>
+ * The output of a command is framed by the prompt multimode prints before
+ * reading the next command. The error output is merged into it, so that a
+ * single thread drains both. A session whose process died is started again
+ * on the next command.
+ *
+ * @author Gaurav Gupta
+ */
+public class AsadminSession implements Closeable {
+
+    private static final String PROMPT = "asadmin> ";
+    private static final String END_OF_OUTPUT = "\u0000";
+    private static final long START_TIMEOUT = 60;
+    private static final long COMMAND_TIMEOUT = 300;
+
+    private final List<String> command;
+    private final File directory;
+    private final Log log;
+    private Process process;
+    private Writer input;
+    private BlockingQueue<String> frames;
+
+    /**
+     * @param asadmin path of the asadmin script
+     * @param adminPort admin port of the server the commands are sent to
+     */
+    public AsadminSession(String asadmin, int adminPort, Log log) {
+        this.command = new ArrayList<>(List.of(asadmin,
+                "--port", String.valueOf(adminPort),
+                "--interactive=false",
+                "multimode", "--printprompt=true"));
+        this.directory = new File(asadmin).getParentFile();
+        this.log = log;
+    }
+
+    /**
+     * Runs the command line and returns its output.
+     */
+    public synchronized String run(String commandLine) throws IOException, InterruptedException {
+        if (process == null || !process.isAlive()) {
+            start();
+        }
+        input.write(commandLine.replace('\n', ' ') + System.lineSeparator());
+        input.flush();
+        return nextFrame(COMMAND_TIMEOUT, commandLine);
+    }
+
+    private void start() throws IOException, InterruptedException {
+        close();
+        log.debug("Starting asadmin session: " + command);
+        ProcessBuilder processBuilder = new ProcessBuilder(command)
+                .directory(directory)
+                .redirectErrorStream(true);
+        process = processBuilder.start();
+        input = new OutputStreamWriter(process.getOutputStream());
+        frames = new LinkedBlockingQueue<>();
+        Thread reader = new Thread(() -> readFrames(process, frames), "payara-asadmin-session");
+        reader.setDaemon(true);
+        reader.start();
+        // the banner, if any, up to the first prompt
+        nextFrame(START_TIMEOUT, "multimode");
+    }
+
+    private String nextFrame(long timeout, String commandLine) throws IOException, InterruptedException {
+        String frame = frames.poll(timeout, TimeUnit.SECONDS);
+        if (frame == null) {
+            close();
+            throw new IOException("asadmin did not complete " + commandLine + " within " + timeout + " s");
+        }
+        if (frame.endsWith(END_OF_OUTPUT)) {
+            close();
+            throw new IOException("asadmin session ended: " + frame.substring(0, frame.length() - 1).trim());
+        }
+        return frame;
+    }
+
+    private static void readFrames(Process process, BlockingQueue<String> frames) {
+        StringBuilder frame = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            int c;
+            while ((c = reader.read()) != -1) {
+                if (c == '\r') {
+                    continue;
+                }
+                frame.append((char) c);
+                int length = frame.length();
+                if (length >= PROMPT.length()
+                        && frame.charAt(length - 1) == ' '
+                        && frame.indexOf(PROMPT, length - PROMPT.length()) == length - PROMPT.length()
+                        && (length == PROMPT.length() || frame.charAt(length - PROMPT.length() - 1) == '\n')) {
+                    frames.add(frame.substring(0, length - PROMPT.length()));
+                    frame.setLength(0);
+                }
+            }
+        } catch (IOException ex) {
+            // the process is gone
+        }
+        frames.add(frame + END_OF_OUTPUT);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (process != null) {
+            process.destroy();
+            process = null;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins.server.manager;
+
+/**
+ * Stops sending admin commands to a server that failed to answer several
+ * times in a row, until a trial command succeeds.
+ * <p>
+ * Once open, a single trial command is let through every
+ * <code>openDuration</code> ms, any success closing the circuit again.
+ *
+ * @author Gaurav Gupta
+ */
+public class CircuitBreaker {
+
+    private final int failureThreshold;
+    private final long openDuration;
+    private int failures;
+    private long openedAt;
+    private boolean trial;
+
+    public CircuitBreaker(int failureThreshold, long openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+    }
+
+    public synchronized boolean allowRequest() {
+        if (failures < failureThreshold) {
+            return true;
+        }
+        if (!trial && System.currentTimeMillis() - openedAt >= openDuration) {
+            trial = true;
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized boolean isOpen() {
+        return failures >= failureThreshold;
+    }
+
+    public synchronized void onSuccess() {
+        failures = 0;
+        trial = false;
+    }
+
+    public synchronized void onFailure() {
+        failures++;
+        if (failures >= failureThreshold) {
+            openedAt = System.currentTimeMillis();
+            trial = false;
+        }
+    }
+}
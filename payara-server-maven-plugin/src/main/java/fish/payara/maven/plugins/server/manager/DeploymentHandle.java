@@ -0,0 +1,129 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins.server.manager;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Deployment submitted to run in the background.
+ *
+ * @author Gaurav Gupta
+ */
+public class DeploymentHandle {
+
+    private static final int PENDING = 0;
+    private static final int RUNNING = 1;
+    private static final int CANCELLED = 2;
+
+    private final CompletableFuture<URI> result = new CompletableFuture<>();
+    private final DeploymentProgress progress;
+    private final AtomicInteger state = new AtomicInteger(PENDING);
+    private volatile Future<?> task;
+
+    DeploymentHandle(DeploymentProgress progress) {
+        this.progress = progress;
+    }
+
+    void setTask(Future<?> task) {
+        this.task = task;
+    }
+
+    /**
+     * Marks the deployment as running, unless it was cancelled meanwhile.
+     */
+    boolean start() {
+        if (state.compareAndSet(PENDING, RUNNING)) {
+            progress.started();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Cancels the deployment if it has not started yet.
+     *
+     * @return whether it was cancelled
+     */
+    boolean cancelIfPending() {
+        if (state.compareAndSet(PENDING, CANCELLED)) {
+            result.cancel(false);
+            progress.releaseFiles();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Cancels the deployment, interrupting the upload or the wait for the
+     * server when it is running. The server may still complete a deployment
+     * it already received.
+     */
+    public void cancel() {
+        if (!cancelIfPending() && state.compareAndSet(RUNNING, CANCELLED)) {
+            result.cancel(false);
+            Future<?> running = task;
+            if (running != null) {
+                running.cancel(true);
+            }
+        }
+    }
+
+    boolean isCancelled() {
+        return state.get() == CANCELLED;
+    }
+
+    /**
+     * Completes with the application URL, or null when the deployment
+     * failed.
+     */
+    public CompletableFuture<URI> getResult() {
+        return result;
+    }
+
+    public DeploymentProgress getProgress() {
+        return progress;
+    }
+
+    public boolean isDone() {
+        return result.isDone();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins.server.manager;
+
+import java.net.http.HttpRequest.BodyPublisher;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of a deployment: the archive upload, then the deployment on the
+ * server.
+ *
+ * @author Gaurav Gupta
+ */
+public class DeploymentProgress {
+
+    private final String name;
+    private volatile long start = System.nanoTime();
+    private final AtomicLong sent = new AtomicLong();
+    private volatile long total = -1;
+    private volatile boolean started;
+    private final CompletableFuture<Void> filesReleased = new CompletableFuture<>();
+
+    public DeploymentProgress(String name) {
+        this.name = name;
+    }
+
+    void started() {
+        start = System.nanoTime();
+        started = true;
+    }
+
+    /**
+     * Marks the application files as no longer read by the deployment, once
+     * it works on a copy of them or when it is over.
+     */
+    public void releaseFiles() {
+        filesReleased.complete(null);
+    }
+
+    /**
+     * Completes when the application files can be rebuilt without affecting
+     * the deployment.
+     */
+    public CompletableFuture<Void> filesReleased() {
+        return filesReleased;
+    }
+
+    /**
+     * Counts the bytes of the upload as the HTTP client consumes them. An
+     * upload sent again starts counting from zero.
+     */
+    BodyPublisher track(BodyPublisher publisher) {
+        total = publisher.contentLength();
+        return new BodyPublisher() {
+            @Override
+            public long contentLength() {
+                return publisher.contentLength();
+            }
+
+            @Override
+            public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+                sent.set(0);
+                publisher.subscribe(new Flow.Subscriber<ByteBuffer>() {
+                    @Override
+                    public void onSubscribe(Flow.Subscription subscription) {
+                        subscriber.onSubscribe(subscription);
+                    }
+
+                    @Override
+                    public void onNext(ByteBuffer item) {
+                        sent.addAndGet(item.remaining());
+                        subscriber.onNext(item);
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        subscriber.onError(throwable);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        subscriber.onComplete();
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Describes the current phase, such as
+     * <code>Uploading app: 45% of 27 MB (3 s)</code>.
+     */
+    public String describe() {
+        long seconds = (System.nanoTime() - start) / 1_000_000_000L;
+        if (!started) {
+            return "Deployment of " + name + " waiting for the previous one (" + seconds + " s)";
+        }
+        long uploadSize = total;
+        long uploaded = sent.get();
+        if (uploadSize > 0 && uploaded < uploadSize) {
+            return String.format("Uploading %s: %d%% of %d MB (%d s)",
+                    name, uploaded * 100 / uploadSize, uploadSize / (1024 * 1024), seconds);
+        }
+        return "Deploying " + name + " on the server (" + seconds + " s)";
+    }
+}
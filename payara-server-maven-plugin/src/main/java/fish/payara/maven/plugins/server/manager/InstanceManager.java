@@ -51,39 +51,57 @@ import static fish.payara.maven.plugins.server.manager.PayaraServerLocalInstance
 import static fish.payara.maven.plugins.server.manager.PayaraServerLocalInstance.HTTP_PREFIX;
 import static fish.payara.maven.plugins.server.manager.PayaraServerLocalInstance.LOCATION_HEADER;
 import fish.payara.maven.plugins.server.utils.ServerUtils;
+import fish.payara.maven.plugins.server.utils.StringUtils;
+import fish.payara.maven.plugins.server.utils.ZipEnvelope;
 import java.io.BufferedOutputStream;
-import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.net.ConnectException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.UncheckedIOException;
 import java.net.HttpURLConnection;
-import java.net.InetAddress;
-import java.net.MalformedURLException;
-import java.net.ProtocolException;
-import java.net.Proxy;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.Socket;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.net.URL;
-import java.net.URLConnection;
-import java.net.UnknownHostException;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
-import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
-import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
-import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLEngine;
 import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.logging.Log;
 import org.json.JSONArray;
@@ -99,8 +117,17 @@ public class InstanceManager<X extends PayaraServerInstance> {
 
     protected X payaraServer;
 
-    private static final String HTTP_GET_METHOD = "GET";
-    private static final String HTTP_POST_METHOD = "POST";
+    private volatile CountDownLatch readySignal = new CountDownLatch(1);
+
+    private final Map<String, String> contextRoots = new ConcurrentHashMap<>();
+
+    private final Map<String, CachedResponse> responseCache = new ConcurrentHashMap<>();
+
+    private RetryPolicy retryPolicy = DEFAULT_RETRY_POLICY;
+
+    private ExecutorService deployExecutor;
+
+    private DeploymentHandle lastDeployment;
 
     public static final String CONTENT_TYPE_JSON = "application/json";
     private static final String CONTENT_TYPE_STREAM = "application/octet-stream";
@@ -108,8 +135,42 @@ public class InstanceManager<X extends PayaraServerInstance> {
     public static final String CONTENT_TYPE_PLAIN_TEXT = "text/plain";
     public static final String CONTENT_TYPE_HTML_TEXT = "text/html";
     private static final String CONTENT_TYPE_HEADER = "Content-Type";
+    private static final String ACCEPT_HEADER = "Accept";
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final int UPLOAD_BUFFER_SIZE = 1024 * 1024;
+
+    private static final Map<Integer, HttpClient> HTTP_CLIENTS = new ConcurrentHashMap<>();
+    protected static final AdminMetrics METRICS = new AdminMetrics();
+    private static final Map<String, CircuitBreaker> CIRCUIT_BREAKERS = new ConcurrentHashMap<>();
+    private static final int CIRCUIT_FAILURE_THRESHOLD = 3;
+    private static final long CIRCUIT_OPEN_DURATION = 1000;
+
+    /**
+     * Default retry policy: up to 4 attempts within 10 s, the first retry
+     * after 100 to 200 ms.
+     */
+    public static final RetryPolicy DEFAULT_RETRY_POLICY = new RetryPolicy(4, 200, 2000, 10000);
+    private static SSLContext trustAllSSLContext;
+
+    /**
+     * Time during which the response of a read-only command is reused.
+     */
+    private static final long RESPONSE_CACHE_TTL = 5000;
+
+    /**
+     * Interval at which the progress of a background deployment is logged.
+     */
+    private static final long DEPLOY_PROGRESS_INTERVAL = 2000;
+    private static final ScheduledExecutorService DEPLOY_PROGRESS_REPORTER = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "payara-deploy-progress");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private static final int MAX_RETRIES = 100;
+    private static final long MIN_PROBE_DELAY = 100;
+    private static final long MAX_PROBE_DELAY = 2000;
+    private static final int PORT_CHECK_TIMEOUT = 250;
     /**
      * Delay before administration command execution will be retried.
      */
@@ -118,6 +179,18 @@ public class InstanceManager<X extends PayaraServerInstance> {
     private static final String DEPLOY_COMMAND = "deploy";
     private static final String UNDEPLOY_COMMAND = "undeploy";
     private static final String GET_COMMAND = "get";
+    private static final String LIST_COMMAND_PREFIX = "list-";
+    private static final String OPTION_PREFIX = "--";
+
+    /**
+     * Boolean options of the asadmin commands, which take no separate value.
+     */
+    private static final Set<String> BOOLEAN_OPTIONS = Set.of(
+            "force", "enabled", "upload", "verbose", "terse", "echo", "help", "interactive",
+            "precompilejsp", "verify", "createtables", "dropandcreatetables", "droptables",
+            "keepreposdir", "keepstate", "keepfailedstubs", "generatermistubs", "cascade",
+            "availabilityenabled", "asyncreplication", "lbenabled", "long", "checkports",
+            "savemasterpassword", "usemasterpassword", "savelogin", "dynamic-reconfiguration-enabled");
     protected static final String VIEW_LOG_COMMAND = "view-log";
     protected static final String LOCATIONS_COMMAND = "__locations";
     protected static final String ASADMIN_PATH = "/__asadmin/";
@@ -178,6 +251,11 @@ public class InstanceManager<X extends PayaraServerInstance> {
      */
     private static final String PROPERTIES_PARAM = "properties";
 
+    /**
+     * Deploy command property restoring the HTTP sessions on redeployment.
+     */
+    private static final String KEEP_SESSIONS_PROPERTY = "keepSessions=true";
+
     /**
      * Deploy command <code>libraries</code> parameter name.
      */
@@ -198,27 +276,90 @@ public class InstanceManager<X extends PayaraServerInstance> {
         this.log = log;
     }
 
+    public X getPayaraServer() {
+        return payaraServer;
+    }
+
+    /**
+     * Metrics of the admin commands sent by all the instance managers.
+     */
+    public static AdminMetrics getMetrics() {
+        return METRICS;
+    }
+
+    /**
+     * Waits for the server to answer admin commands, reporting the time it
+     * took.
+     * <p>
+     * The server is probed every {@value #MIN_PROBE_DELAY} ms at first, the
+     * delay doubling up to {@value #MAX_PROBE_DELAY} ms, for at most
+     * {@value #MAX_RETRIES} x {@value #HTTP_RETRY_DELAY} ms. A probe only
+     * pings the server once its admin port accepts connections, and the
+     * ready signal from the server output triggers a probe right away.
+     */
     public void connectWithServer() throws MojoExecutionException {
-        boolean pingSuccess = false;
-        for (int i = 0; i < MAX_RETRIES; i++) {
-            try {
-                Thread.sleep(HTTP_RETRY_DELAY);
-            } catch (InterruptedException ex) {
-                Thread.currentThread().interrupt();
-            }
-            try {
-                if (pingServer()) {
-                    pingSuccess = true;
-                    break;
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos((long) MAX_RETRIES * HTTP_RETRY_DELAY);
+        long delay = MIN_PROBE_DELAY;
+        CountDownLatch signal = readySignal;
+        boolean readySignalSeen = false;
+        Exception failure = null;
+        int probes = 0;
+        try {
+            while (System.nanoTime() < deadline) {
+                probes++;
+                if (isAdminPortOpen()) {
+                    try {
+                        if (pingServer()) {
+                            log.info(String.format("Payara Server is ready in %.1f s (%d probes)",
+                                    (System.nanoTime() - start) / 1e9, probes));
+                            return;
+                        }
+                        failure = null;
+                    } catch (Exception e) {
+                        failure = e;
+                    }
                 }
-            } catch (Exception e) {
-                if (i == MAX_RETRIES - 1) {
-                    throw new MojoExecutionException("Failed to ping Payara Server after " + MAX_RETRIES + " attempts.", e);
+                if (!readySignalSeen && signal.await(delay, TimeUnit.MILLISECONDS)) {
+                    readySignalSeen = true;
+                    delay = MIN_PROBE_DELAY;
+                    continue;
+                } else if (readySignalSeen) {
+                    Thread.sleep(delay);
                 }
+                delay = Math.min(delay * 2, MAX_PROBE_DELAY);
             }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Interrupted while waiting for Payara Server.", ex);
         }
-        if (!pingSuccess) {
-            log.error("Error pinging the server");
+        if (failure != null) {
+            throw new MojoExecutionException("Failed to ping Payara Server after " + probes + " attempts.", failure);
+        }
+        log.error("Error pinging the server");
+    }
+
+    /**
+     * Signals that the server reported to be ready in its output, so that
+     * {@link #connectWithServer()} probes it without waiting.
+     */
+    public void signalReady() {
+        readySignal.countDown();
+    }
+
+    /**
+     * Waits for a new ready signal, the server being started or restarted.
+     */
+    protected void resetReadySignal() {
+        readySignal = new CountDownLatch(1);
+    }
+
+    private boolean isAdminPortOpen() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(payaraServer.getHost(), payaraServer.getAdminPort()), PORT_CHECK_TIMEOUT);
+            return true;
+        } catch (IOException | RuntimeException ex) {
+            return false;
         }
     }
 
@@ -228,6 +369,12 @@ public class InstanceManager<X extends PayaraServerInstance> {
         return response != null && response.isExitCodeSuccess();
     }
 
+    public CompletableFuture<Boolean> pingServerAsync() {
+        Command command = new Command(MANAGEMENT_PATH, VERSION_COMMAND, null);
+        return invokeServerAsync(payaraServer, command)
+                .thenApply(response -> response != null && response.isExitCodeSuccess());
+    }
+
     public boolean isServerAlreadyRunning() {
         Command command = new Command(ASADMIN_PATH, LOCATIONS_COMMAND, null);
         Response serverRunning;
@@ -252,23 +399,123 @@ public class InstanceManager<X extends PayaraServerInstance> {
     }
 
     public URI deployApplication(String name, String appPath, String instanceName, String contextRoot, boolean exploded, boolean hotDeploy) {
+        return deployApplication(name, appPath, instanceName, contextRoot, exploded, hotDeploy, false);
+    }
+
+    /**
+     * Deploys the application, replacing any deployment of the same name in
+     * place, and returns its URL.
+     * <p>
+     * The context root is only queried from the server when it is neither
+     * given nor known from an earlier deployment of the application.
+     *
+     * @param keepSessions whether the HTTP sessions of the deployment being
+     * replaced are restored in the new one
+     */
+    public URI deployApplication(String name, String appPath, String instanceName, String contextRoot, boolean exploded, boolean hotDeploy, boolean keepSessions) {
+        return deployApplication(name, appPath, instanceName, contextRoot, exploded, hotDeploy, keepSessions, null);
+    }
+
+    /**
+     * Deploys the application in the background, as
+     * {@link #deployApplication(String, String, String, String, boolean, boolean, boolean)}
+     * does, logging the upload progress and the time spent every
+     * {@value #DEPLOY_PROGRESS_INTERVAL} ms.
+     *
+     * @see #submitDeployment(String, Function)
+     */
+    public DeploymentHandle deployApplicationAsync(String name, String appPath, String instanceName, String contextRoot, boolean exploded, boolean hotDeploy, boolean keepSessions) {
+        return submitDeployment(name, progress -> deployApplication(name, appPath, instanceName, contextRoot, exploded, hotDeploy, keepSessions, progress));
+    }
+
+    /**
+     * Runs a deployment in the background, one at a time. A deployment
+     * still waiting for the running one is superseded by the one submitted
+     * after it: only the latest change is deployed. A running deployment,
+     * which may be reading the application files, is never superseded.
+     */
+    public synchronized DeploymentHandle submitDeployment(String name, Function<DeploymentProgress, URI> deployment) {
+        if (lastDeployment != null && lastDeployment.cancelIfPending()) {
+            log.info("Pending deployment of " + name + " superseded by a newer change.");
+        }
+        if (deployExecutor == null) {
+            deployExecutor = Executors.newSingleThreadExecutor(task -> {
+                Thread thread = new Thread(task, "payara-deploy");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        DeploymentProgress progress = new DeploymentProgress(name);
+        DeploymentHandle handle = new DeploymentHandle(progress);
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            if (!handle.start()) {
+                return;
+            }
+            ScheduledFuture<?> reporter = DEPLOY_PROGRESS_REPORTER.scheduleAtFixedRate(
+                    () -> log.info(progress.describe()),
+                    DEPLOY_PROGRESS_INTERVAL, DEPLOY_PROGRESS_INTERVAL, TimeUnit.MILLISECONDS);
+            try {
+                handle.getResult().complete(deployment.apply(progress));
+            } catch (RuntimeException ex) {
+                handle.getResult().completeExceptionally(ex);
+            } finally {
+                reporter.cancel(false);
+                progress.releaseFiles();
+            }
+        }, null);
+        handle.setTask(task);
+        deployExecutor.execute(task);
+        lastDeployment = handle;
+        return handle;
+    }
+
+    /**
+     * Deploys the application, tracking the upload in the given progress.
+     */
+    public URI deployApplication(String name, String appPath, String instanceName, String contextRoot, boolean exploded, boolean hotDeploy, boolean keepSessions, DeploymentProgress progress) {
+        return deployApplication(name, appPath, instanceName, contextRoot, exploded, hotDeploy, keepSessions, progress, null);
+    }
+
+    /**
+     * Deploys the application, uploading the given envelope of the archive
+     * when there is one, so that the archive wrapped once can be deployed
+     * to several servers.
+     *
+     * @see #uploadEnvelope(File)
+     */
+    public URI deployApplication(String name, String appPath, String instanceName, String contextRoot, boolean exploded, boolean hotDeploy, boolean keepSessions, DeploymentProgress progress, ZipEnvelope envelope) {
         Command command = new Command(ASADMIN_PATH, DEPLOY_COMMAND, name);
+        command.setProgress(progress);
+        command.setEnvelope(envelope);
         command.setPath(appPath);
         command.setContextRoot(contextRoot);
         command.setInstanceName(instanceName);
-        command.setQuery(query(command));
         command.setDirDeploy(exploded);
         command.setHotDeploy(hotDeploy);
+        command.setKeepSessions(keepSessions);
+        command.setQuery(query(command));
         Response deploy;
         try {
             deploy = invokeServer(payaraServer, command);
+            responseCache.clear();
             if (deploy != null && deploy.isExitCodeSuccess()) {
-                Response response = getApplicationInfo(name);
-                if (response != null && response.isExitCodeSuccess()) {
+                String appContextRoot = contextRoot != null && !contextRoot.isEmpty()
+                        ? contextRoot : contextRoots.get(name);
+                if (appContextRoot == null) {
+                    Response response = getApplicationInfo(name);
+                    if (response != null && response.isExitCodeSuccess()) {
+                        appContextRoot = getContextRoot(((JsonResponse) response).getJsonBody());
+                    }
+                }
+                if (appContextRoot != null) {
+                    if (!appContextRoot.startsWith("/")) {
+                        appContextRoot = "/" + appContextRoot;
+                    }
+                    contextRoots.put(name, appContextRoot);
                     URI app = new URI(payaraServer.getProtocol(), null,
                             payaraServer.getHost(),
                             payaraServer.getProtocol().equals(HTTP) ? payaraServer.getHttpPort() : payaraServer.getHttpsPort(),
-                            getContextRoot(((JsonResponse) response).getJsonBody()), null, null);
+                            appContextRoot, null, null);
                     log.info(name + " application deployed successfully : " + app.toString());
                     return app;
                 } else {
@@ -283,6 +530,9 @@ public class InstanceManager<X extends PayaraServerInstance> {
             } else {
                 log.error("Failed to deploy application. ");
             }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.info("Deployment of " + name + " cancelled.");
         } catch (Exception ex) {
             log.error("Error deploying the application: " + ex.getMessage());
         }
@@ -292,7 +542,7 @@ public class InstanceManager<X extends PayaraServerInstance> {
     public Response getApplicationInfo(String name) throws Exception {
         Command command = new Command(ASADMIN_PATH, GET_COMMAND, "applications.application." + name + ".context-root");
         command.setQuery(query(command));
-        return invokeServer(payaraServer, command);
+        return invokeCached(command).join();
     }
 
     public String getContextRoot(JSONObject body) {
@@ -307,7 +557,95 @@ public class InstanceManager<X extends PayaraServerInstance> {
         return null;
     }
 
+    /**
+     * Runs an asadmin command line, such as
+     * <code>set-log-levels --target=server javax.enterprise.web=FINE</code>,
+     * through the <code>__asadmin</code> REST endpoint and renders its report
+     * as asadmin prints it.
+     * <p>
+     * Options are given as <code>--name=value</code> or
+     * <code>--name value</code>. A lone <code>--name</code> is only accepted
+     * for the usual boolean options, set to true. The other arguments are the
+     * operands of the command.
+     *
+     * @return the report, or null when the server has no such command or
+     * the command line cannot be read without knowing the options of the
+     * command, such as with short options
+     */
+    public String runAsadminRest(String commandLine) throws Exception {
+        List<String> arguments = StringUtils.tokenize(commandLine);
+        if (arguments.isEmpty()) {
+            return null;
+        }
+        String query = asadminQuery(arguments.subList(1, arguments.size()));
+        if (query == null) {
+            return null;
+        }
+        String name = arguments.get(0);
+        Command command = new Command(ASADMIN_PATH, name, null);
+        command.setQuery(query);
+        command.setQueryEncoded(true);
+        Response response = invokeServer(payaraServer, command);
+        if (!(response instanceof JsonResponse)) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(((JsonResponse) response).toPlainText());
+        if (response.isExitCodeSuccess()) {
+            sb.append("Command ").append(name).append(" executed successfully.");
+        } else {
+            sb.append("Command ").append(name).append(" failed.");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Builds the encoded query of the arguments, or returns null when they
+     * are ambiguous.
+     */
+    static String asadminQuery(List<String> arguments) {
+        StringBuilder sb = new StringBuilder();
+        boolean operands = false;
+        for (int i = 0; i < arguments.size(); i++) {
+            String argument = arguments.get(i);
+            String name;
+            String value;
+            if (!operands && argument.equals(OPTION_PREFIX)) {
+                operands = true;
+                continue;
+            } else if (!operands && argument.startsWith(OPTION_PREFIX)) {
+                int assign = argument.indexOf(PARAM_ASSIGN_VALUE);
+                name = argument.substring(OPTION_PREFIX.length(), assign == -1 ? argument.length() : assign);
+                if (assign != -1) {
+                    value = argument.substring(assign + 1);
+                } else if (BOOLEAN_OPTIONS.contains(name)) {
+                    value = Boolean.TRUE.toString();
+                } else if (i + 1 < arguments.size() && !arguments.get(i + 1).startsWith("-")) {
+                    value = arguments.get(++i);
+                } else {
+                    // an option without value that is not known to be a boolean
+                    return null;
+                }
+            } else if (!operands && argument.startsWith("-") && argument.length() > 1) {
+                // short options depend on the command
+                return null;
+            } else {
+                name = DEFAULT_PARAM;
+                value = argument;
+            }
+            if (sb.length() > 0) {
+                sb.append(PARAM_SEPARATOR);
+            }
+            sb.append(encode(name)).append(PARAM_ASSIGN_VALUE).append(encode(value));
+        }
+        return sb.toString();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
     public void undeployApplication(String name, String instanceName) {
+        contextRoots.remove(name);
         Command command = new Command(ASADMIN_PATH, UNDEPLOY_COMMAND, name);
         command.setQuery(query(command));
         command.setInstanceName(instanceName);
@@ -315,156 +653,325 @@ public class InstanceManager<X extends PayaraServerInstance> {
             invokeServer(payaraServer, command);
         } catch (Exception ex) {
             log.error("Error undeploying the application: " + ex.getMessage());
+        } finally {
+            responseCache.clear();
+        }
+    }
+
+    /**
+     * Runs a read-only command, reusing its response for
+     * {@value #RESPONSE_CACHE_TTL} ms. Concurrent calls for the same command
+     * share a single request, and failed responses are not kept. The cache
+     * is cleared when an application is deployed or undeployed.
+     */
+    protected CompletableFuture<Response> invokeCached(Command command) {
+        String key = command.getRootPath() + command.getCommand() + '?' + command.getQuery();
+        long now = System.nanoTime();
+        CachedResponse cached = responseCache.compute(key, (k, entry) -> entry != null && entry.expiry - now > 0
+                ? entry
+                : new CachedResponse(now + TimeUnit.MILLISECONDS.toNanos(RESPONSE_CACHE_TTL), invokeServerAsync(payaraServer, command)));
+        cached.response.thenAccept(response -> {
+            if (response == null || !response.isExitCodeSuccess()) {
+                responseCache.remove(key, cached);
+            }
+        });
+        return cached.response;
+    }
+
+    private static class CachedResponse {
+
+        private final long expiry;
+        private final CompletableFuture<Response> response;
+
+        private CachedResponse(long expiry, CompletableFuture<Response> response) {
+            this.expiry = expiry;
+            this.response = response;
         }
     }
 
+    /**
+     * Sends the command and returns its response, or null when the server
+     * answered with an HTTP error.
+     * <p>
+     * A command failing on a connection error is retried according to the
+     * retry policy, as long as sending it again is harmless. Uploads are only
+     * bounded by the number of attempts, a single attempt of a large archive
+     * possibly outlasting the time budget. While the
+     * circuit breaker of the server is open, commands fail right away,
+     * except the liveness probes which are what closes it again.
+     *
+     * @throws IOException when the server could not be reached
+     */
     protected Response invokeServer(PayaraServerInstance instance, Command command) throws Exception {
-        boolean httpSucceeded = false;
-        String commandUrl = constructCommandUrl(instance, command);
-        int retries = 1;
-        Response response = null;
-        try {
-            URL urlToConnectTo = new URL(commandUrl);
-            while (!httpSucceeded && retries-- > 0) {
-                HttpURLConnection hconn = null;
-                try {
-                    URLConnection conn = openURLConnection(urlToConnectTo);
-                    if (conn instanceof HttpURLConnection) {
-                        hconn = (HttpURLConnection) conn;
-                        response = handleHTTPConnection(instance, command, conn, urlToConnectTo);
-                        httpSucceeded = true;
-                    }
-                } catch (ProtocolException | ConnectException | RuntimeException ex) {
-                    return response;
-                } catch (IOException ex) {
-                    if (retries <= 0) {
-                        return response;
-                    }
-                } finally {
-                    if (null != hconn) {
-                        if (hconn.getInputStream() != null) {
-                            try {
-                                hconn.getInputStream().close();
-                            } catch (IOException ioe) {
-                            }
-                        }
-                        hconn.disconnect();
-                    }
+        AdminMetrics.Sample sample = METRICS.start(command.getRootPath(), command.getCommand());
+        CircuitBreaker breaker = circuitBreaker(instance);
+        boolean probe = isProbe(command);
+        boolean upload = isUpload(command);
+        RetryPolicy policy = probe ? RetryPolicy.NONE : retryPolicy;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(policy.getBudget());
+        for (int attempt = 1;; attempt++) {
+            if (!probe && !breaker.allowRequest()) {
+                sample.failed();
+                throw new ConnectException("Payara Server at " + instance.getHost() + ':' + instance.getAdminPort()
+                        + " is not answering, " + command.getCommand() + " not sent");
+            }
+            try {
+                URI uri = URI.create(constructCommandUrl(instance, command));
+                HttpResponse<byte[]> response = send(instance, command, uri, sample);
+                URI redirect = secureRedirect(instance, response);
+                if (redirect != null) {
+                    sample.retried();
+                    response = send(instance, command, redirect, sample);
                 }
-
-                if (!httpSucceeded && retries > 0) {
-                    try {
-                        Thread.sleep(HTTP_RETRY_DELAY);
-                    } catch (InterruptedException ie) {
-                        log.info("sleepInterrupted", ie);
-                    }
+                breaker.onSuccess();
+                sample.stop(response.statusCode(), sentBytes(response), response.body().length);
+                return toResponse(command, response);
+            } catch (IOException ex) {
+                breaker.onFailure();
+                long delay = policy.delay(attempt);
+                if (attempt >= policy.getMaxAttempts()
+                        || (!upload && System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay) > deadline)
+                        || !isRetryable(command, ex)
+                        || (!probe && breaker.isOpen())) {
+                    sample.failed();
+                    log.debug("Error invoking " + command.getCommand() + ": " + ex.getMessage());
+                    throw ex;
+                }
+                sample.retried();
+                String message = String.format("%s failed (%s), retrying in %d ms (%d/%d)",
+                        upload ? "Upload of " + new File(command.getPath()).getName() : command.getCommand(),
+                        ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName(),
+                        delay, attempt + 1, policy.getMaxAttempts());
+                if (upload) {
+                    log.warn(message);
+                } else {
+                    log.debug(message);
                 }
+                Thread.sleep(delay);
+            } catch (RuntimeException ex) {
+                sample.failed();
+                throw ex;
             }
-        } catch (MalformedURLException ex) {
-            log.warn(ex);
         }
-        return response;
+    }
+
+    private HttpResponse<byte[]> send(PayaraServerInstance instance, Command command, URI uri, AdminMetrics.Sample sample) throws IOException, InterruptedException {
+        return httpClient(instance).send(newRequest(instance, command, uri).build(), sample.handler(BodyHandlers.ofByteArray()));
     }
 
     /**
-     * Creates {@link URLConnection} instance that represents a connection to
-     * Payara server administration interface.
-     *
-     * @param urlToConnectTo Payara server administration interface URL.
-     * @return server administration interface URL connection.
-     * @throws IOException IOException if an I/O error occurs while opening the
-     * connection.
-     */
-    private static URLConnection openURLConnection(
-            final URL urlToConnectTo) throws IOException {
-        InetAddress addr;
-        try {
-            addr = InetAddress.getByName(urlToConnectTo.getHost());
-        } catch (UnknownHostException ex) {
-            addr = null;
+     * Liveness checks, which already run in their own polling loops.
+     */
+    private static boolean isProbe(Command command) {
+        return VERSION_COMMAND.equals(command.getCommand()) || LOCATIONS_COMMAND.equals(command.getCommand());
+    }
+
+    /**
+     * Reads and forced deployments can be sent again whatever happened to
+     * the first attempt. Other asadmin commands, such as an undeployment,
+     * are only retried when they did not reach the server.
+     */
+    private static boolean isRetryable(Command command, IOException ex) {
+        String name = command.getCommand();
+        return ex instanceof ConnectException
+                || !ASADMIN_PATH.equals(command.getRootPath())
+                || DEPLOY_COMMAND.equals(name)
+                || GET_COMMAND.equals(name)
+                || LOCATIONS_COMMAND.equals(name)
+                || name.startsWith(LIST_COMMAND_PREFIX);
+    }
+
+    /**
+     * The circuit breaker shared by the instance managers of the server.
+     */
+    protected static CircuitBreaker circuitBreaker(PayaraServerInstance instance) {
+        return CIRCUIT_BREAKERS.computeIfAbsent(instance.getHost() + ':' + instance.getAdminPort(),
+                server -> new CircuitBreaker(CIRCUIT_FAILURE_THRESHOLD, CIRCUIT_OPEN_DURATION));
+    }
+
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Size of the request body, or 0 when unknown.
+     */
+    protected static long sentBytes(HttpResponse<?> response) {
+        return response.request().bodyPublisher().map(BodyPublisher::contentLength).orElse(0L);
+    }
+
+    private static boolean isUpload(Command command) {
+        return !command.isDirDeploy() && command.getPath() != null;
+    }
+
+    /**
+     * Asynchronous variant of {@link #invokeServer}, completing with null
+     * where the latter returns null.
+     */
+    protected CompletableFuture<Response> invokeServerAsync(PayaraServerInstance instance, Command command) {
+        HttpClient client = httpClient(instance);
+        AdminMetrics.Sample sample = METRICS.start(command.getRootPath(), command.getCommand());
+        CircuitBreaker breaker = circuitBreaker(instance);
+        if (!isProbe(command) && !breaker.allowRequest()) {
+            sample.failed();
+            return CompletableFuture.completedFuture(null);
         }
-        if (addr != null && addr.isLoopbackAddress()) {
-            return urlToConnectTo.openConnection(Proxy.NO_PROXY);
+        try {
+            URI uri = URI.create(constructCommandUrl(instance, command));
+            return client.sendAsync(newRequest(instance, command, uri).build(), sample.handler(BodyHandlers.ofByteArray()))
+                    .thenCompose(response -> {
+                        URI redirect = secureRedirect(instance, response);
+                        if (redirect == null) {
+                            return CompletableFuture.completedFuture(response);
+                        }
+                        sample.retried();
+                        try {
+                            return client.sendAsync(newRequest(instance, command, redirect).build(), sample.handler(BodyHandlers.ofByteArray()));
+                        } catch (IOException ex) {
+                            return CompletableFuture.failedFuture(ex);
+                        }
+                    })
+                    .thenApply(response -> {
+                        breaker.onSuccess();
+                        sample.stop(response.statusCode(), sentBytes(response), response.body().length);
+                        return toResponse(command, response);
+                    })
+                    .exceptionally(ex -> {
+                        if (ex.getCause() instanceof IOException) {
+                            breaker.onFailure();
+                        }
+                        sample.failed();
+                        log.debug("Error invoking " + command.getCommand() + ": " + ex.getMessage());
+                        return null;
+                    });
+        } catch (IOException | RuntimeException ex) {
+            sample.failed();
+            log.debug("Error invoking " + command.getCommand() + ": " + ex.getMessage());
+            return CompletableFuture.completedFuture(null);
         }
-        return urlToConnectTo.openConnection();
     }
 
     /**
-     * Handle HTTP connections to server.
-     *
-     * @return State change request when <code>call()</code> method should exit.
-     */
-    private Response handleHTTPConnection(PayaraServerInstance instance, Command command, URLConnection conn, URL urlToConnectTo) throws IOException {
-        HttpURLConnection hconn = (HttpURLConnection) conn;
-        if (conn instanceof HttpsURLConnection) {
-            handleSecureConnection((HttpsURLConnection) conn);
-        }
-        prepareHttpConnection(instance, command, hconn);
-        // Connect to server.
-        hconn.connect();
-        // Send data to server if necessary.
-        handleSend(command, hconn);
-        int respCode = hconn.getResponseCode();
-        StringBuilder response;
-        try (BufferedReader in = new BufferedReader(new InputStreamReader(hconn.getInputStream()))) {
-            String inputLine;
-            response = new StringBuilder();
-            while ((inputLine = in.readLine()) != null) {
-                response.append('\n').append(inputLine);
-            }
-        }
-        if(respCode == HttpURLConnection.HTTP_MOVED_TEMP) {
-            String location = hconn.getHeaderField(LOCATION_HEADER);
-            if (location.startsWith(HTTPS_PREFIX) && hconn.getURL().toString().startsWith(HTTP_PREFIX)) {
-                URL secureUrl = new URL(location);
-                URLConnection newConn = secureUrl.openConnection();
+     * Returns the redirect target when the admin listener redirects plain
+     * HTTP to HTTPS, switching the instance protocol.
+     */
+    private static URI secureRedirect(PayaraServerInstance instance, HttpResponse<?> response) {
+        if (response.statusCode() == HttpURLConnection.HTTP_MOVED_TEMP) {
+            String location = response.headers().firstValue(LOCATION_HEADER).orElse("");
+            if (location.startsWith(HTTPS_PREFIX) && response.uri().toString().startsWith(HTTP_PREFIX)) {
                 instance.setProtocol(HTTPS);
-                return handleHTTPConnection(instance, command, newConn, secureUrl);
+                return URI.create(location);
             }
         }
+        return null;
+    }
 
+    private static Response toResponse(Command command, HttpResponse<byte[]> response) {
+        int code = response.statusCode();
+        if (code >= HttpURLConnection.HTTP_BAD_REQUEST) {
+            return null;
+        }
+        Map<String, List<String>> headers = response.headers().map();
         if (command.getContentType().equals(CONTENT_TYPE_PLAIN_TEXT)) {
-            return new PlainResponse(response.toString(), respCode, hconn.getHeaderFields());
+            return new PlainResponse(response.body(), code, headers);
         }
-        return new JsonResponse(response.toString(), respCode, hconn.getHeaderFields());
+        return new JsonResponse(response.body(), code, headers);
     }
 
-    private void handleSend(Command command, HttpURLConnection hconn) throws IOException {
-        InputStream istream = getInputStream(command);
-        if (istream != null) {
-            ZipOutputStream ostream = null;
-            try {
-                File file = new File(command.getPath());
-                ostream = new ZipOutputStream(new BufferedOutputStream(
-                        hconn.getOutputStream(), 1024 * 1024));
+    /**
+     * Returns the client shared by all the instance managers for the
+     * connection timeout of the instance. Connections are kept alive and TLS
+     * sessions resumed across the admin commands.
+     */
+    protected static HttpClient httpClient(PayaraServerInstance instance) {
+        Integer timeout = instance.getHttpConnectionTimeout();
+        return HTTP_CLIENTS.computeIfAbsent(timeout == null || timeout < 0 ? 0 : timeout, connectTimeout -> {
+            ProxySelector proxySelector = ProxySelector.getDefault();
+            HttpClient.Builder builder = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .followRedirects(HttpClient.Redirect.NEVER)
+                    .proxy(proxySelector != null ? proxySelector : HttpClient.Builder.NO_PROXY)
+                    .sslContext(trustAllSSLContext());
+            if (connectTimeout > 0) {
+                builder.connectTimeout(Duration.ofMillis(connectTimeout));
+            }
+            return builder.build();
+        });
+    }
+
+    /**
+     * Prepares a request for the command with the common headers and
+     * credentials, uploading the application archive when there is one.
+     */
+    protected HttpRequest.Builder newRequest(PayaraServerInstance server, Command command, URI uri) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .header(ACCEPT_HEADER, command.getContentType());
+        String adminUser = server.getAdminUser();
+        String adminPassword = server.getAdminPassword();
+        if (adminPassword != null && adminPassword.length() > 0) {
+            String authString = ServerUtils.basicAuthCredentials(
+                    adminUser, adminPassword);
+            builder.header(AUTHORIZATION_HEADER, "Basic " + authString);
+        }
+        if (!isUpload(command)) {
+            return builder.GET();
+        }
+        builder.header(CONTENT_TYPE_HEADER, CONTENT_TYPE_ZIP);
+        File file = new File(command.getPath());
+        if (!file.exists() || !file.canRead()) {
+            log.error("File not found or cannot be read: " + command.getPath());
+            return builder.POST(BodyPublishers.noBody());
+        }
+        ZipEnvelope envelope = command.getEnvelope();
+        if (envelope == null) {
+            envelope = uploadEnvelope(file);
+            command.setEnvelope(envelope);
+        }
+        BodyPublisher publisher = envelope != null
+                ? envelope.publisher()
+                : BodyPublishers.ofInputStream(() -> zipStream(file));
+        if (command.getProgress() != null) {
+            publisher = command.getProgress().track(publisher);
+        }
+        return builder.POST(publisher);
+    }
+
+    /**
+     * Wraps the archive for the deploy command, or returns null when it is
+     * too large for a {@link ZipEnvelope}.
+     */
+    public static ZipEnvelope uploadEnvelope(File file) throws IOException {
+        return ZipEnvelope.of(file, getExtraProperties(file));
+    }
+
+    /**
+     * Streams the archive wrapped in a zip entry, the form the deploy
+     * command expects for an uploaded file. Only used for archives too large
+     * for a {@link ZipEnvelope}.
+     */
+    private InputStream zipStream(File file) {
+        PipedInputStream in = new PipedInputStream(UPLOAD_BUFFER_SIZE);
+        PipedOutputStream out;
+        try {
+            out = new PipedOutputStream(in);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        Thread writer = new Thread(() -> {
+            try (InputStream istream = new FileInputStream(file);
+                    ZipOutputStream ostream = new ZipOutputStream(new BufferedOutputStream(out, UPLOAD_BUFFER_SIZE))) {
                 ZipEntry e = new ZipEntry(file.getName());
                 e.setExtra(getExtraProperties(file));
                 ostream.putNextEntry(e);
-                byte[] buffer = new byte[1024 * 1024];
-                while (true) {
-                    int n = istream.read(buffer);
-                    if (n < 0) {
-                        break;
-                    }
-                    ostream.write(buffer, 0, n);
-                }
+                istream.transferTo(ostream);
                 ostream.closeEntry();
-                ostream.flush();
-            } finally {
-                try {
-                    istream.close();
-                } catch (IOException ex) {
-                    log.error(ex);
-                }
-                if (ostream != null) {
-                    try {
-                        ostream.close();
-                    } catch (IOException ex) {
-                        log.error(ex);
-                    }
-                }
+            } catch (IOException ex) {
+                log.error("Error in uploading " + file, ex);
             }
-        }
+        }, "payara-deploy-upload");
+        writer.setDaemon(true);
+        writer.start();
+        return in;
     }
 
     /**
@@ -472,7 +979,7 @@ public class InstanceManager<X extends PayaraServerInstance> {
      * <p/>
      * @return Extra properties for ZIP entries.
      */
-    private byte[] getExtraProperties(File file) {
+    private static byte[] getExtraProperties(File file) {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         Properties props = new Properties();
         props.setProperty("data-request-type", "file-xfer");
@@ -484,103 +991,71 @@ public class InstanceManager<X extends PayaraServerInstance> {
         return baos.toByteArray();
     }
 
-private InputStream getInputStream(Command command) {
-    if (command.isDirDeploy()) {
-        return null;
-    } else if (command.getPath() != null) {
-        File file = new File(command.getPath());
-        if (!file.exists() || !file.canRead()) {
-            log.error("File not found or cannot be read: " + command.getPath());
-            return null;
-        }
-        try {
-            return new FileInputStream(file);
-        } catch (FileNotFoundException fnfe) {
-            log.error("Exception while opening file: " + fnfe.getMessage());
-            return null;
-        }
-    }
-    return null;
-}
-
     /**
-     * Prepare headers for HTTP connection. This handles all common headers for
-     * all implemented command interfaces (REST, HTTP, ...).
-     *
-     * @param conn Target HTTP connection.
-     * @throws IllegalStateException if there is a problem with setting the
-     * headers.
-     */
-    private void prepareHttpConnection(PayaraServerInstance server, Command command, HttpURLConnection conn)
-            throws IllegalStateException {
-        conn.setAllowUserInteraction(false);
-        conn.setDoInput(true);
-        conn.setUseCaches(false);
-        conn.setConnectTimeout(server.getHttpConnectionTimeout());
-        String adminUser = server.getAdminUser();
-        String adminPassword = server.getAdminPassword();
-        try {
-            conn.setRequestMethod(command.isDirDeploy() || command.getPath() == null ? HTTP_GET_METHOD : HTTP_POST_METHOD);
-        } catch (ProtocolException pe) {
-            throw new IllegalStateException(pe);
-        }
-        conn.setDoOutput(!command.isDirDeploy());
-        String contentType = command.isDirDeploy() || command.getPath() == null ? null : CONTENT_TYPE_ZIP;
-        if (contentType != null && contentType.length() > 0) {
-            conn.setRequestProperty("Content-Type", contentType);
-            conn.setChunkedStreamingMode(0);
-        }
-        conn.setRequestProperty("Accept", command.getContentType());
-        if (adminPassword != null && adminPassword.length() > 0) {
-            String authString = ServerUtils.basicAuthCredentials(
-                    adminUser, adminPassword);
-            conn.setRequestProperty("Authorization", "Basic " + authString);
-        }
-    }
+     * Trust manager accepting any certificate and host name, as the admin
+     * listener of a development server is usually self-signed.
+     */
+    private static synchronized SSLContext trustAllSSLContext() {
+        if (trustAllSSLContext == null) {
+            TrustManager[] tm = new TrustManager[]{
+                new X509ExtendedTrustManager() {
 
-    private void handleSecureConnection(final HttpsURLConnection conn) {
-        TrustManager[] tm = new TrustManager[]{
-            new X509TrustManager() {
+                    @Override
+                    public void checkClientTrusted(X509Certificate[] chain, String authType) {
+                    }
 
-                @Override
-                public void checkClientTrusted(X509Certificate[] arg0,
-                        String arg1) throws CertificateException {
-                }
+                    @Override
+                    public void checkServerTrusted(X509Certificate[] chain, String authType) {
+                    }
 
-                @Override
-                public void checkServerTrusted(X509Certificate[] arg0,
-                        String arg1) throws CertificateException {
-                }
+                    @Override
+                    public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) {
+                    }
 
-                @Override
-                public X509Certificate[] getAcceptedIssuers() {
-                    return null;
+                    @Override
+                    public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) {
+                    }
+
+                    @Override
+                    public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+                    }
+
+                    @Override
+                    public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+                    }
+
+                    @Override
+                    public X509Certificate[] getAcceptedIssuers() {
+                        return new X509Certificate[0];
+                    }
                 }
+            };
+            try {
+                SSLContext context = SSLContext.getInstance("TLS");
+                context.init(null, tm, null);
+                trustAllSSLContext = context;
+            } catch (NoSuchAlgorithmException | KeyManagementException ex) {
+                throw new IllegalStateException(ex);
             }
-        };
-
-        SSLContext context;
-        try {
-            context = SSLContext.getInstance("SSL");
-            context.init(null, tm, null);
-            conn.setSSLSocketFactory(context.getSocketFactory());
-            conn.setHostnameVerifier((String string, SSLSession ssls) -> true);
-        } catch (NoSuchAlgorithmException | KeyManagementException ex) {
-            log.error(conn.getURL().toString(), ex);
         }
+        return trustAllSSLContext;
     }
 
-    private String constructCommandUrl(PayaraServerInstance server, Command command) throws IllegalStateException {
+    protected String constructCommandUrl(PayaraServerInstance server, Command command) throws IllegalStateException {
         if(command.getCommand().startsWith(HTTP)) {
             return command.getCommand();
         }
         URI uri;
         try {
             uri = new URI(server.getProtocol(), null, server.getHost(), server.getAdminPort(),
-                    command.getRootPath() + command.getCommand(), command.getQuery(), null);
+                    command.getRootPath() + command.getCommand(),
+                    command.isQueryEncoded() ? null : command.getQuery(), null);
         } catch (URISyntaxException use) {
             throw new IllegalStateException(use);
         }
+        if (command.isQueryEncoded() && command.getQuery() != null) {
+            return uri.toASCIIString() + '?' + command.getQuery();
+        }
         return uri.toASCIIString().replace("+", "%2b");
     }
 
@@ -609,6 +1084,10 @@ private InputStream getInputStream(Command command) {
                     sb.append(PARAM_SEPARATOR);
                     sb.append(CTXROOT_PARAM).append(PARAM_ASSIGN_VALUE).append(command.getContextRoot());
                 }
+                if (command.isKeepSessions()) {
+                    sb.append(PARAM_SEPARATOR);
+                    sb.append(PROPERTIES_PARAM).append(PARAM_ASSIGN_VALUE).append(KEEP_SESSIONS_PROPERTY);
+                }
                 if (command.isHotDeploy()) {
                     sb.append(PARAM_SEPARATOR);
                     sb.append(HOT_DEPLOY_PARAM);
@@ -635,17 +1114,27 @@ private InputStream getInputStream(Command command) {
     }
 
     public Response runEndpoint(String endpoint) {
-        Command command = new Command("", endpoint, null);
-        Response serverRunning = null;
-        try {
-            serverRunning = invokeServer(payaraServer, command);
-            if (serverRunning != null
-                    && serverRunning.isExitCodeSuccess()) {
-                return serverRunning;
-            }
-        } catch (Exception ex) {
-            // skip
+        return runEndpointAsync(endpoint).join();
+    }
+
+    /**
+     * Reads the endpoint, through the response cache.
+     */
+    public CompletableFuture<Response> runEndpointAsync(String endpoint) {
+        return invokeCached(new Command("", endpoint, null));
+    }
+
+    /**
+     * Reads the endpoints concurrently, returning their responses in the
+     * order of the endpoints. An endpoint repeated in the list is read once.
+     */
+    public Map<String, Response> runEndpoints(List<String> endpoints) {
+        Map<String, CompletableFuture<Response>> pending = new LinkedHashMap<>();
+        for (String endpoint : endpoints) {
+            pending.computeIfAbsent(endpoint, this::runEndpointAsync);
         }
-        return serverRunning;
+        Map<String, Response> responses = new LinkedHashMap<>();
+        pending.forEach((endpoint, response) -> responses.put(endpoint, response.join()));
+        return responses;
     }
 }
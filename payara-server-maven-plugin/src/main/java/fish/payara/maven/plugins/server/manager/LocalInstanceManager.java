@@ -54,12 +54,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.apache.maven.plugin.logging.Log;
 import fish.payara.maven.plugins.server.parser.JDKVersion;
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.util.Arrays;
+import java.net.ConnectException;
+import java.net.http.HttpConnectTimeoutException;
 
 /**
  *
@@ -72,11 +72,24 @@ public class LocalInstanceManager extends InstanceManager<PayaraServerLocalInsta
     private static final String ERROR_BOOTSTRAP_JAR_NOT_FOUND = "No bootstrap jar exists.";
     private static final String ERROR_JAVA_VM_EXECUTABLE_NOT_FOUND = "Java VM executable for %s was not found.";
 
+    /**
+     * asadmin commands run by the client itself, without a running server.
+     */
+    private static final Set<String> LOCAL_COMMANDS = Set.of(
+            "start-domain", "stop-domain", "create-domain", "delete-domain", "list-domains",
+            "backup-domain", "restore-domain", "list-backups", "verify-domain-xml",
+            "change-master-password", "start-database", "stop-database",
+            "create-local-instance", "delete-local-instance", "start-local-instance", "stop-local-instance",
+            "create-service", "login", "multimode");
+
+    private AsadminSession asadminSession;
+
     public LocalInstanceManager(PayaraServerLocalInstance payaraServer, Log log) {
         super(payaraServer, log);
     }
 
     public ProcessBuilder startServer(String debug, String debugPort, List<Option> javaCommandLineOptions, List<Option> commandLineOptions) throws Exception {
+        resetReadySignal();
         JvmConfigReader jvmConfigReader = new JvmConfigReader(payaraServer.getDomainXml(), DAS_NAME);
         String javaHome = payaraServer.getJDKHome();
         if (javaHome == null) {
@@ -273,64 +286,70 @@ public class LocalInstanceManager extends InstanceManager<PayaraServerLocalInsta
         return false;
     }
 
+    /**
+     * Runs an asadmin command line through the admin REST endpoint of the
+     * running server, falling back to the asadmin script for the commands
+     * that only run locally, that the server does not know or that could not
+     * reach it.
+     */
     public String runAsadminCommand(String command) throws Exception {
-        String javaHome = payaraServer.getJDKHome();
-        if (javaHome == null) {
-            throw new Exception(ERROR_JAVA_HOME_NOT_FOUND);
-        }
-
-        String javaVmExe = JavaUtils.javaVmExecutableFullPath(javaHome);
-        if (!Files.exists(Paths.get(javaVmExe))) {
-            throw new Exception(String.format(ERROR_JAVA_VM_EXECUTABLE_NOT_FOUND, payaraServer.getPath()));
-        }
-
-        String asadminPath = Paths.get(payaraServer.getServerHome(), "bin", "asadmin").toString();
-        if (!Files.exists(Paths.get(asadminPath))) {
-            throw new Exception("asadmin executable not found at " + asadminPath);
-        }
-
-        List<String> commandList = new ArrayList<>();
-
-        if (System.getProperty("os.name").toLowerCase().contains("win")) {
-            commandList.add("cmd.exe");
-            commandList.add("/c");
-        } else {
-            commandList.add("/bin/sh");
-            commandList.add("-c");
+        List<String> arguments = StringUtils.tokenize(command);
+        if (!arguments.isEmpty() && !LOCAL_COMMANDS.contains(arguments.get(0))) {
+            try {
+                String report = runAsadminRest(command);
+                if (report != null) {
+                    return report;
+                }
+            } catch (ConnectException | HttpConnectTimeoutException ex) {
+                // not received by the server, asadmin runs it
+                log.debug("Error running " + arguments.get(0) + " through REST: " + ex.getMessage());
+            } catch (IOException ex) {
+                // the server may have received the command, running it again could apply it twice
+                return "Command " + arguments.get(0) + " may not have completed: "
+                        + (ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName());
+            }
         }
+        return runAsadminProcess(command);
+    }
 
-        commandList.add(asadminPath);
-        commandList.addAll(Arrays.asList(command.split("\\s+")));
-
-        ProcessBuilder processBuilder = new ProcessBuilder(commandList);
-        processBuilder.directory(Paths.get(payaraServer.getServerHome(), "bin").toFile());
-
-        Process process = processBuilder.start();
+    /**
+     * Runs the command in the asadmin session of the server, started on
+     * first use.
+     */
+    private String runAsadminProcess(String command) throws Exception {
+        AsadminSession session;
+        synchronized (this) {
+            if (asadminSession == null) {
+                String javaHome = payaraServer.getJDKHome();
+                if (javaHome == null) {
+                    throw new Exception(ERROR_JAVA_HOME_NOT_FOUND);
+                }
 
-        StringBuilder sb = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                sb.append(line).append("\n");
-            }
-        } catch (IOException e) {
-            log.error("Error reading process output", e);
-        }
+                String javaVmExe = JavaUtils.javaVmExecutableFullPath(javaHome);
+                if (!Files.exists(Paths.get(javaVmExe))) {
+                    throw new Exception(String.format(ERROR_JAVA_VM_EXECUTABLE_NOT_FOUND, payaraServer.getPath()));
+                }
 
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getErrorStream()))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                sb.append(line);
+                String asadmin = System.getProperty("os.name").toLowerCase().contains("win") ? "asadmin.bat" : "asadmin";
+                String asadminPath = Paths.get(payaraServer.getServerHome(), "bin", asadmin).toString();
+                if (!Files.exists(Paths.get(asadminPath))) {
+                    throw new Exception("asadmin executable not found at " + asadminPath);
+                }
+                asadminSession = new AsadminSession(asadminPath, payaraServer.getAdminPort(), log);
             }
-        } catch (IOException e) {
-            log.error("Error reading process error output", e);
+            session = asadminSession;
         }
+        return session.run(command);
+    }
 
-        int exitCode = process.waitFor();
-        if (exitCode != 0) {
-            log.error("asadmin command failed with exit code " + exitCode);
+    /**
+     * Stops the asadmin session, if any.
+     */
+    public synchronized void closeAsadminSession() {
+        if (asadminSession != null) {
+            asadminSession.close();
+            asadminSession = null;
         }
-        return sb.toString();
     }
 
 }
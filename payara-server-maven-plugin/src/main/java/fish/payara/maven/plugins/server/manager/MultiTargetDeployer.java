@@ -0,0 +1,142 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins.server.manager;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Deploys an application to several servers at once, at most
+ * <code>parallelism</code> at a time, retrying each failed deployment on
+ * its own.
+ *
+ * @author Gaurav Gupta
+ */
+public class MultiTargetDeployer {
+
+    private static final int DEPLOY_ATTEMPTS = 2;
+    private static final long RETRY_DELAY = 2000;
+
+    private final int parallelism;
+    private final Log log;
+
+    public MultiTargetDeployer(int parallelism, Log log) {
+        this.parallelism = Math.max(1, parallelism);
+        this.log = log;
+    }
+
+    /**
+     * Runs the deployments, keyed by target name, and returns the
+     * application URL per target, null for a failed target.
+     */
+    public Map<String, URI> deploy(Map<String, Callable<URI>> deployments) throws InterruptedException {
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, deployments.size()), task -> {
+            Thread thread = new Thread(task, "payara-deploy-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.nanoTime();
+        try {
+            List<String> names = new ArrayList<>(deployments.keySet());
+            List<Callable<URI>> tasks = new ArrayList<>();
+            for (String name : names) {
+                tasks.add(() -> deployWithRetry(name, deployments.get(name)));
+            }
+            List<Future<URI>> futures = executor.invokeAll(tasks);
+            Map<String, URI> results = new LinkedHashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                URI result;
+                try {
+                    result = futures.get(i).get();
+                } catch (ExecutionException ex) {
+                    result = null;
+                }
+                results.put(names.get(i), result);
+            }
+            report(results, System.nanoTime() - start);
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private URI deployWithRetry(String name, Callable<URI> deployment) throws InterruptedException {
+        for (int attempt = 1;; attempt++) {
+            try {
+                URI result = deployment.call();
+                if (result != null) {
+                    return result;
+                }
+            } catch (InterruptedException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                log.debug("Error deploying to " + name, ex);
+            }
+            if (attempt >= DEPLOY_ATTEMPTS) {
+                return null;
+            }
+            log.warn("Deployment to " + name + " failed, retrying (" + (attempt + 1) + "/" + DEPLOY_ATTEMPTS + ")");
+            Thread.sleep(RETRY_DELAY);
+        }
+    }
+
+    private void report(Map<String, URI> results, long elapsed) {
+        long failures = results.values().stream().filter(result -> result == null).count();
+        log.info(String.format("Deployed to %d of %d targets in %.1f s",
+                results.size() - failures, results.size(), elapsed / 1e9));
+        results.forEach((name, result) -> {
+            if (result != null) {
+                log.info("  " + name + " : " + result);
+            } else {
+                log.error("  " + name + " : FAILED");
+            }
+        });
+    }
+}
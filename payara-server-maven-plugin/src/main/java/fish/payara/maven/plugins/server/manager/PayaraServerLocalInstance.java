@@ -40,6 +40,7 @@ package fish.payara.maven.plugins.server.manager;
 
 import fish.payara.maven.plugins.server.parser.JDKVersion;
 import fish.payara.maven.plugins.server.parser.PortReader;
+import fish.payara.maven.plugins.server.utils.ServerLogStore;
 import static fish.payara.maven.plugins.server.Configuration.DAS_NAME;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -72,6 +73,7 @@ public class PayaraServerLocalInstance extends PayaraServerInstance {
     public static final String LOCALHOST = "localhost";
 
     private PortReader portReader;
+    private ServerLogStore serverLogStore;
     private Process logStream;
 
     private final String path;
@@ -128,9 +130,19 @@ public class PayaraServerLocalInstance extends PayaraServerInstance {
         return readServerLog(5000);
     }
 
+    /**
+     * Returns the most recent <code>maxLength</code> characters of the server
+     * log, read from the indexed log store.
+     */
     public String readServerLog(int maxLength) throws IOException {
-        String logContent = readFileWithReplacement(getServerLog());
-        return logContent.length() > maxLength ? logContent.substring(0, maxLength) : logContent;
+        return getServerLogStore().tail(maxLength);
+    }
+
+    public synchronized ServerLogStore getServerLogStore() {
+        if (serverLogStore == null) {
+            serverLogStore = new ServerLogStore(Paths.get(getServerLog()));
+        }
+        return serverLogStore;
     }
 
     public String readDomainXml() throws IOException {
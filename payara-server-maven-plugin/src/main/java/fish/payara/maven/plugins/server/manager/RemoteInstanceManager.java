@@ -39,8 +39,22 @@
 package fish.payara.maven.plugins.server.manager;
 
 import fish.payara.maven.plugins.server.Command;
-import fish.payara.maven.plugins.server.response.Response;
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 import org.apache.maven.plugin.logging.Log;
 
 /**
@@ -53,36 +67,174 @@ public class RemoteInstanceManager extends InstanceManager<PayaraServerRemoteIns
         super(payaraServer, log);
     }
 
-    private String appendPreviousStart, appendnextStart;
     private static final String APPEND_NEXT_HEADER = "X-Text-Append-Next";
+    private static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+    private static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+    private static final String GZIP_ENCODING = "gzip";
+    private static final long MIN_POLL_DELAY = 250;
+    private static final long MAX_POLL_DELAY = 5000;
+    private static final int DEDUPLICATION_WINDOW = 256;
 
-    public String fetchLogs(String instanceName) {
+    private String appendNextQuery;
+    private final long[] recentRecords = new long[DEDUPLICATION_WINDOW];
+    private int recentRecordIndex;
+
+    /**
+     * Streams the log records of the instance, appended after the call, to
+     * the consumer until the thread is interrupted.
+     * <p>
+     * The log is fetched again after {@value #MIN_POLL_DELAY} ms while new
+     * records are flowing, and the poll delay doubles up to
+     * {@value #MAX_POLL_DELAY} ms while the server is idle. Records already
+     * seen, when the server serves an overlapping range again, are dropped
+     * and do not count as new ones.
+     */
+    public void streamLogs(String instanceName, Consumer<String> consumer) throws InterruptedException {
+        long delay = MIN_POLL_DELAY;
+        boolean skip = appendNextQuery == null;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<String> records;
+            try {
+                records = fetchLogRecords(instanceName);
+            } catch (IOException ex) {
+                log.debug("Error retrieving log: " + ex.getMessage());
+                records = null;
+            }
+            boolean emitted = false;
+            if (records != null && !skip) {
+                for (String record : records) {
+                    if (isNew(record)) {
+                        consumer.accept(record);
+                        emitted = true;
+                    }
+                }
+            }
+            if (emitted) {
+                delay = MIN_POLL_DELAY;
+            }
+            Thread.sleep(delay);
+            if (!emitted) {
+                delay = records == null ? MAX_POLL_DELAY : Math.min(delay * 2, MAX_POLL_DELAY);
+            }
+            if (records != null) {
+                // the records logged before streaming started are not shown
+                skip = false;
+            }
+        }
+        throw new InterruptedException();
+    }
+
+    private List<String> fetchLogRecords(String instanceName) throws IOException, InterruptedException {
         Command command = new Command(MANAGEMENT_PATH, VIEW_LOG_COMMAND, "0");
         command.setContentType(CONTENT_TYPE_PLAIN_TEXT);
         command.setInstanceName(instanceName);
-        if (appendnextStart == null) {
-            command.setQuery(query(command));
-        } else {
-            command.setQuery(appendnextStart);
-        }
+        command.setQuery(appendNextQuery == null ? query(command) : appendNextQuery);
 
-        Response logResponse;
+        HttpRequest request = newRequest(payaraServer, command, URI.create(constructCommandUrl(payaraServer, command)))
+                .header(ACCEPT_ENCODING_HEADER, GZIP_ENCODING)
+                .build();
+        AdminMetrics.Sample sample = METRICS.start(command.getRootPath(), command.getCommand());
+        HttpResponse<InputStream> response;
         try {
-            logResponse = invokeServer(payaraServer, command);
-            List<String> headerValues = logResponse.getHeaderFields().get(APPEND_NEXT_HEADER);
-            if (headerValues != null && !headerValues.isEmpty()) {
-                String headerValue = headerValues.get(0);
-                int questionMarkIndex = headerValue.indexOf('?');
-                if (questionMarkIndex != -1 && questionMarkIndex < headerValue.length() - 1) {
-                    appendPreviousStart = appendnextStart;
-                    appendnextStart = headerValue.substring(questionMarkIndex + 1);
+            response = httpClient(payaraServer).send(request, sample.handler(BodyHandlers.ofInputStream()));
+        } catch (IOException ex) {
+            sample.failed();
+            throw ex;
+        }
+        if (response.statusCode() != HttpURLConnection.HTTP_OK) {
+            // drain the error body so that the connection can be reused
+            long received;
+            try (InputStream error = response.body()) {
+                received = error.transferTo(OutputStream.nullOutputStream());
+            }
+            sample.stop(response.statusCode(), 0, received);
+            throw new IOException("view-log returned HTTP " + response.statusCode());
+        }
+        response.headers().firstValue(APPEND_NEXT_HEADER).ifPresent(appendNext -> {
+            int queryIndex = appendNext.indexOf('?');
+            if (queryIndex != -1 && queryIndex < appendNext.length() - 1) {
+                appendNextQuery = appendNext.substring(queryIndex + 1);
+            }
+        });
+        // the bytes on the wire, before any decompression
+        CountingInputStream body = new CountingInputStream(response.body());
+        InputStream stream = body;
+        if (GZIP_ENCODING.equalsIgnoreCase(response.headers().firstValue(CONTENT_ENCODING_HEADER).orElse(null))) {
+            stream = new GZIPInputStream(stream);
+        }
+        List<String> records = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            StringBuilder record = new StringBuilder();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (isRecordStart(line) && record.length() > 0) {
+                    records.add(record.toString());
+                    record.setLength(0);
+                }
+                if (record.length() > 0) {
+                    record.append(System.lineSeparator());
                 }
+                record.append(line);
+            }
+            if (record.length() > 0 && !record.toString().trim().isEmpty()) {
+                records.add(record.toString());
+            }
+        }
+        sample.stop(response.statusCode(), 0, body.count);
+        return records;
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+
+    /**
+     * A record of the uniform log format starts with its timestamp field.
+     */
+    private static boolean isRecordStart(String line) {
+        return line.length() > 1 && line.charAt(0) == '[' && Character.isDigit(line.charAt(1));
+    }
+
+    private boolean isNew(String record) {
+        long hash = ((long) record.hashCode() << 32) | (record.length() & 0xFFFFFFFFL);
+        for (long recent : recentRecords) {
+            if (recent == hash) {
+                return false;
             }
-            return appendPreviousStart == null || appendnextStart.equals(appendPreviousStart) ? "" : logResponse.toString();
-        } catch (Exception ex) {
-            log.error("Error retrieving log: " + ex.getMessage());
         }
-        return null;
+        recentRecords[recentRecordIndex] = hash;
+        recentRecordIndex = (recentRecordIndex + 1) % DEDUPLICATION_WINDOW;
+        return true;
     }
 
 }
@@ -0,0 +1,100 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins.server.manager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry policy of the admin commands failing on a connection error:
+ * exponential backoff with jitter, bounded by a number of attempts and a
+ * time budget.
+ *
+ * @author Gaurav Gupta
+ */
+public class RetryPolicy {
+
+    /**
+     * A single attempt.
+     */
+    public static final RetryPolicy NONE = new RetryPolicy(1, 0, 0, 0);
+
+    private final int maxAttempts;
+    private final long initialDelay;
+    private final long maxDelay;
+    private final long budget;
+
+    /**
+     * @param maxAttempts maximum number of attempts, the first included
+     * @param initialDelay delay in ms before the first retry, doubling for
+     * each further retry
+     * @param maxDelay maximum delay in ms between two attempts
+     * @param budget time in ms after which no retry is attempted
+     */
+    public RetryPolicy(int maxAttempts, long initialDelay, long maxDelay, long budget) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        this.budget = budget;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getBudget() {
+        return budget;
+    }
+
+    /**
+     * Returns a policy with the same backoff and the given limits.
+     */
+    public RetryPolicy withLimits(int maxAttempts, long budget) {
+        return new RetryPolicy(maxAttempts, initialDelay, maxDelay, budget);
+    }
+
+    /**
+     * Delay in ms before the retry following the given attempt, randomized
+     * between half and all of the backoff so that clients do not retry in
+     * lockstep.
+     */
+    public long delay(int attempt) {
+        long backoff = Math.min(maxDelay, initialDelay << Math.min(attempt - 1, 20));
+        return backoff <= 1 ? backoff : ThreadLocalRandom.current().nextLong(backoff / 2, backoff + 1);
+    }
+}
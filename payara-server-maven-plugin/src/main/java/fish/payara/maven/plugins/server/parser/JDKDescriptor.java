@@ -0,0 +1,229 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins.server.parser;
+
+import fish.payara.maven.plugins.DevStateStore;
+import fish.payara.maven.plugins.server.utils.JavaUtils;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Version, vendor and CRaC support of a JDK, read from its
+ * <code>release</code> file or, when it has none, from the properties
+ * printed by its <code>java</code> executable.
+ * <p>
+ * Descriptors are kept in the {@link DevStateStore} at
+ * <code>~/.payara/jdk-descriptors.properties</code> by JDK home, along with
+ * the modification time of the executable, so that the JDK is only inspected
+ * again after it has been updated.
+ */
+public class JDKDescriptor {
+
+    private static final String RELEASE_FILE = "release";
+    private static final String RELEASE_VERSION = "JAVA_VERSION";
+    private static final String RELEASE_IMPLEMENTOR = "IMPLEMENTOR";
+    private static final String CRAC_DIRECTORY = "lib/criu";
+    private static final Path CACHE_FILE = Paths.get(System.getProperty("user.home"), ".payara", "jdk-descriptors.properties");
+    private static final String MODIFIED_KEY = "modified";
+    private static final String VERSION_KEY = "version";
+    private static final String VENDOR_KEY = "vendor";
+    private static final String CRAC_KEY = "crac";
+
+    private static final DevStateStore STORE = DevStateStore.of(CACHE_FILE);
+
+    private static final Map<String, JDKDescriptor> DESCRIPTORS = new ConcurrentHashMap<>();
+
+    private final long modified;
+    private final String version;
+    private final String vendor;
+    private final boolean cracSupported;
+
+    private JDKDescriptor(long modified, String version, String vendor, boolean cracSupported) {
+        this.modified = modified;
+        this.version = version;
+        this.vendor = vendor;
+        this.cracSupported = cracSupported;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public String getVendor() {
+        return vendor;
+    }
+
+    public boolean isCRaCSupported() {
+        return cracSupported;
+    }
+
+    /**
+     * Returns the descriptor of the JDK, or null when its version cannot be
+     * determined.
+     *
+     * @throws IOException when the JDK has no java executable
+     */
+    public static JDKDescriptor resolve(String javaHome) throws IOException {
+        File javaVmExe = new File(JavaUtils.javaVmExecutableFullPath(javaHome));
+        // Check if the Java executable exists.
+        if (!javaVmExe.exists()) {
+            throw new IOException("Java VM executable not found at: " + javaVmExe);
+        }
+        String key = javaHome(javaHome);
+        long modified = javaVmExe.lastModified();
+        JDKDescriptor descriptor = DESCRIPTORS.get(key);
+        if (descriptor != null && descriptor.modified == modified) {
+            return descriptor;
+        }
+        descriptor = fromCache(key, modified);
+        if (descriptor == null) {
+            boolean cracSupported = new File(javaHome, CRAC_DIRECTORY).exists();
+            descriptor = readRelease(javaHome, modified, cracSupported);
+            if (descriptor == null) {
+                descriptor = probe(javaVmExe, modified, cracSupported);
+            }
+            if (descriptor == null) {
+                return null;
+            }
+            Map<String, String> entries = new HashMap<>();
+            entries.put(MODIFIED_KEY, Long.toString(modified));
+            entries.put(VERSION_KEY, descriptor.version);
+            entries.put(VENDOR_KEY, descriptor.vendor);
+            entries.put(CRAC_KEY, Boolean.toString(cracSupported));
+            STORE.putAll(key, entries);
+        }
+        DESCRIPTORS.put(key, descriptor);
+        return descriptor;
+    }
+
+    private static String javaHome(String javaHome) {
+        try {
+            return new File(javaHome).getCanonicalPath();
+        } catch (IOException ex) {
+            return new File(javaHome).getAbsolutePath();
+        }
+    }
+
+    private static JDKDescriptor fromCache(String key, long modified) {
+        String version = STORE.get(key, VERSION_KEY);
+        if (version == null || !Long.toString(modified).equals(STORE.get(key, MODIFIED_KEY))) {
+            return null;
+        }
+        return new JDKDescriptor(modified, version, STORE.get(key, VENDOR_KEY),
+                Boolean.parseBoolean(STORE.get(key, CRAC_KEY)));
+    }
+
+    /**
+     * Reads the <code>JAVA_VERSION</code> and <code>IMPLEMENTOR</code> entries
+     * of the release file, whose values are quoted.
+     */
+    private static JDKDescriptor readRelease(String javaHome, long modified, boolean cracSupported) {
+        Path release = Paths.get(javaHome, RELEASE_FILE);
+        if (!Files.isRegularFile(release)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(release, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException | IllegalArgumentException ex) {
+            return null;
+        }
+        String version = unquote(properties.getProperty(RELEASE_VERSION));
+        if (version == null || version.isEmpty()) {
+            return null;
+        }
+        return new JDKDescriptor(modified, version, unquote(properties.getProperty(RELEASE_IMPLEMENTOR)), cracSupported);
+    }
+
+    private static String unquote(String value) {
+        if (value == null) {
+            return null;
+        }
+        value = value.trim();
+        if (value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    private static JDKDescriptor probe(File javaVmExe, long modified, boolean cracSupported) throws IOException {
+        String javaVersion = "";
+        String implementor = null;
+
+        // Run the command to get Java properties and version.
+        Process process = new ProcessBuilder(javaVmExe.getPath(), "-XshowSettings:properties", "-version")
+                .redirectErrorStream(true)
+                .start();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.contains("java.version =")) {
+                    javaVersion = extractValue(line);
+                } else if (line.contains("java.vendor =")) {
+                    implementor = extractValue(line);
+                }
+            }
+        }
+
+        if (!javaVersion.isEmpty()) {
+            return new JDKDescriptor(modified, javaVersion, implementor, cracSupported);
+        }
+        return null;
+    }
+
+    private static String extractValue(String line) {
+        String[] keyValue = line.split("=");
+        if (keyValue.length == 2) {
+            return keyValue[1].trim();
+        }
+        return "";
+    }
+}
@@ -38,12 +38,8 @@
  */
 package fish.payara.maven.plugins.server.parser;
 
-import fish.payara.maven.plugins.server.utils.JavaUtils;
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.util.Optional;
 import java.util.regex.Pattern;
 
 public class JDKVersion {
@@ -232,48 +228,18 @@ public class JDKVersion {
         return javaHome;
     }
 
+    /**
+     * Returns the version of the JDK, from its cached descriptor when the JDK
+     * has not changed since it was last inspected.
+     */
     public static JDKVersion getJDKVersion(String javaHome) throws IOException {
-        String javaVersion = "";
-        String implementor = null;
-
-        String javaVmExe = JavaUtils.javaVmExecutableFullPath(javaHome);
-        // Check if the Java executable exists.
-        if (!new File(javaVmExe).exists()) {
-            throw new IOException("Java VM executable not found at: " + javaVmExe);
-        }
-
-        // Run the command to get Java properties and version.
-        Process process = new ProcessBuilder(javaVmExe, "-XshowSettings:properties", "-version")
-                .redirectErrorStream(true)
-                .start();
-
-        BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
-        String line;
-        while ((line = reader.readLine()) != null) {
-            if (line.contains("java.version =")) {
-                javaVersion = extractValue(line);
-            } else if (line.contains("java.vendor =")) {
-                implementor = extractValue(line);
-            }
+        JDKDescriptor descriptor = JDKDescriptor.resolve(javaHome);
+        if (descriptor != null) {
+            return JDKVersion.toValue(descriptor.getVersion(), descriptor.getVendor());
         }
-
-        reader.close();
-
-        if (!javaVersion.isEmpty()) {
-            return JDKVersion.toValue(javaVersion, implementor);
-        }
-
         return null;
     }
 
-    private static String extractValue(String line) {
-        String[] keyValue = line.split("=");
-        if (keyValue.length == 2) {
-            return keyValue[1].trim();
-        }
-        return "";
-    }
-
     public static boolean isCorrectJDK(JDKVersion jdkVersion, JvmOption jvmOption, String javaHome) {
         boolean correctJDK = true;
         if (jvmOption.getVendor() != null) {
@@ -295,9 +261,17 @@ public class JDKVersion {
     }
 
     private static boolean isCRaCSupported(String javaHome) {
-        return Optional.ofNullable(javaHome)
-                .map(home -> new File(home, "lib/criu"))
-                .map(File::exists)
-                .orElse(false);
+        if (javaHome == null) {
+            return false;
+        }
+        try {
+            JDKDescriptor descriptor = JDKDescriptor.resolve(javaHome);
+            if (descriptor != null) {
+                return descriptor.isCRaCSupported();
+            }
+        } catch (IOException ex) {
+            // checked on the file system below
+        }
+        return new File(javaHome, "lib/criu").exists();
     }
 }
\ No newline at end of file
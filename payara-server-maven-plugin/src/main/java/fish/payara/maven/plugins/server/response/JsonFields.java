@@ -0,0 +1,170 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins.server.response;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads members of the top level object of a JSON document straight from
+ * its bytes, without building the document tree.
+ *
+ * @author Gaurav Gupta
+ */
+final class JsonFields {
+
+    private JsonFields() {
+    }
+
+    /**
+     * Returns the string value of a member of the top level object, or null
+     * when there is no such member or its value is not a string.
+     */
+    static String topLevelString(byte[] json, String name) {
+        int depth = 0;
+        int i = 0;
+        while (i < json.length) {
+            byte b = json[i];
+            if (b == '"') {
+                int end = stringEnd(json, i);
+                if (end >= json.length) {
+                    return null;
+                }
+                int next = skipWhitespace(json, end + 1);
+                if (depth == 1 && next < json.length && json[next] == ':'
+                        && matches(json, i + 1, end, name)) {
+                    int value = skipWhitespace(json, next + 1);
+                    if (value < json.length && json[value] == '"') {
+                        int valueEnd = stringEnd(json, value);
+                        return valueEnd < json.length ? decode(json, value + 1, valueEnd) : null;
+                    }
+                    return null;
+                }
+                i = end + 1;
+            } else {
+                if (b == '{' || b == '[') {
+                    depth++;
+                } else if (b == '}' || b == ']') {
+                    depth--;
+                }
+                i++;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Index of the quote closing the string opened at <code>start</code>.
+     */
+    private static int stringEnd(byte[] json, int start) {
+        int i = start + 1;
+        while (i < json.length) {
+            if (json[i] == '\\') {
+                i += 2;
+            } else if (json[i] == '"') {
+                return i;
+            } else {
+                i++;
+            }
+        }
+        return json.length;
+    }
+
+    private static int skipWhitespace(byte[] json, int from) {
+        int i = from;
+        while (i < json.length && (json[i] == ' ' || json[i] == '\t' || json[i] == '\n' || json[i] == '\r')) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean matches(byte[] json, int start, int end, String name) {
+        if (end - start != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (json[start + i] != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String decode(byte[] json, int start, int end) {
+        String raw = new String(json, start, end - start, StandardCharsets.UTF_8);
+        if (raw.indexOf('\\') < 0) {
+            return raw;
+        }
+        StringBuilder sb = new StringBuilder(raw.length());
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c != '\\' || i + 1 == raw.length()) {
+                sb.append(c);
+                continue;
+            }
+            char escaped = raw.charAt(++i);
+            switch (escaped) {
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'u':
+                    if (i + 4 < raw.length()) {
+                        sb.append((char) Integer.parseInt(raw.substring(i + 1, i + 5), 16));
+                        i += 4;
+                    }
+                    break;
+                default:
+                    sb.append(escaped);
+                    break;
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -38,37 +38,87 @@
  */
 package fish.payara.maven.plugins.server.response;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import org.json.JSONArray;
 import org.json.JSONObject;
 
 /**
+ * Response of an admin command in JSON. The body is kept as received, the
+ * exit code and message being read from it directly and the document tree
+ * only built when {@link #getJsonBody()} is called.
  *
  * @author Gaurav Gupta
  */
 public class JsonResponse implements Response {
 
-    private final JSONObject body;
+    private static final String EXIT_CODE_FIELD = "exit_code";
+    private static final String MESSAGE_FIELD = "message";
+    private static final String NAME_FIELD = "name";
+    private static final String CHILDREN_FIELD = "children";
+
+    private final byte[] body;
     private final Map<String, List<String>> headerFields;
     private final int code;
+    private JSONObject jsonBody;
 
     public JsonResponse(String jsonString, int code, Map<String, List<String>> headerFields) {
-        this.body = new JSONObject(jsonString);
+        this(jsonString.getBytes(StandardCharsets.UTF_8), code, headerFields);
+    }
+
+    public JsonResponse(byte[] body, int code, Map<String, List<String>> headerFields) {
+        this.body = body;
         this.headerFields = headerFields;
         this.code = code;
     }
 
     public boolean isExitCodeSuccess() {
-        return "SUCCESS".equalsIgnoreCase(body.getString("exit_code"));
+        return "SUCCESS".equalsIgnoreCase(JsonFields.topLevelString(body, EXIT_CODE_FIELD));
+    }
+
+    public String getMessage() {
+        return JsonFields.topLevelString(body, MESSAGE_FIELD);
     }
 
     @Override
     public String toString() {
-        return body.getString("name") != null ? body.getString("name") : body.toString();
+        String name = JsonFields.topLevelString(body, NAME_FIELD);
+        return name != null ? name : new String(body, StandardCharsets.UTF_8);
+    }
+
+    public synchronized JSONObject getJsonBody() {
+        if (jsonBody == null) {
+            jsonBody = new JSONObject(new String(body, StandardCharsets.UTF_8));
+        }
+        return jsonBody;
+    }
+
+    /**
+     * Renders the action report as asadmin prints it: the message followed by
+     * the messages of the child reports, nested reports being indented.
+     */
+    public String toPlainText() {
+        StringBuilder sb = new StringBuilder();
+        appendMessages(sb, getJsonBody(), "");
+        return sb.toString();
     }
 
-    public JSONObject getJsonBody() {
-        return body;
+    private static void appendMessages(StringBuilder sb, JSONObject report, String indent) {
+        String message = report.optString(MESSAGE_FIELD, "");
+        if (!message.isEmpty()) {
+            sb.append(indent).append(message).append(System.lineSeparator());
+        }
+        JSONArray children = report.optJSONArray(CHILDREN_FIELD);
+        if (children != null) {
+            String childIndent = message.isEmpty() ? indent : indent + "    ";
+            for (int i = 0; i < children.length(); i++) {
+                JSONObject child = children.optJSONObject(i);
+                if (child != null) {
+                    appendMessages(sb, child, childIndent);
+                }
+            }
+        }
     }
 
     public Map<String, List<String>> getHeaderFields() {
@@ -38,6 +38,7 @@
  */
 package fish.payara.maven.plugins.server.response;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -47,11 +48,15 @@ import java.util.Map;
  */
 public class PlainResponse implements Response {
 
-    private final String body;
+    private final byte[] body;
     private final Map<String, List<String>> headerFields;
     private final int code;
 
     public PlainResponse(String body, int code, Map<String, List<String>> headerFields) {
+        this(body.getBytes(StandardCharsets.UTF_8), code, headerFields);
+    }
+
+    public PlainResponse(byte[] body, int code, Map<String, List<String>> headerFields) {
         this.body = body;
         this.headerFields = headerFields;
         this.code = code;
@@ -59,7 +64,7 @@ public class PlainResponse implements Response {
 
     @Override
     public String toString() {
-        return body;
+        return new String(body, StandardCharsets.UTF_8);
     }
 
     public Map<String, List<String>> getHeaderFields() {
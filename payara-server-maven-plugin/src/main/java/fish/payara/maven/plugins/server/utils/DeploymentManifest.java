@@ -0,0 +1,160 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins.server.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Content manifest of a deployed archive: the CRC-32 and size of each entry,
+ * read from the zip central directory without inflating the entries.
+ * <p>
+ * Comparing the manifest of a new build with the one of the last deployed
+ * archive tells which entries changed, so that an unchanged archive is not
+ * uploaded again.
+ *
+ * @author Gaurav Gupta
+ */
+public class DeploymentManifest {
+
+    private final Map<String, String> entries;
+
+    private DeploymentManifest(Map<String, String> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Reads the manifest of an archive, or returns null for a directory.
+     */
+    public static DeploymentManifest of(File archive) throws IOException {
+        if (!archive.isFile()) {
+            return null;
+        }
+        Map<String, String> entries = new TreeMap<>();
+        try (ZipFile zip = new ZipFile(archive)) {
+            Enumeration<? extends ZipEntry> zipEntries = zip.entries();
+            while (zipEntries.hasMoreElements()) {
+                ZipEntry entry = zipEntries.nextElement();
+                if (!entry.isDirectory()) {
+                    entries.put(entry.getName(), Long.toHexString(entry.getCrc()) + ':' + entry.getSize());
+                }
+            }
+        }
+        return new DeploymentManifest(entries);
+    }
+
+    /**
+     * Loads a stored manifest, or returns null when there is none.
+     */
+    public static DeploymentManifest load(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException | IllegalArgumentException ex) {
+            return null;
+        }
+        Map<String, String> entries = new TreeMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            entries.put(name, properties.getProperty(name));
+        }
+        return new DeploymentManifest(entries);
+    }
+
+    public void store(Path file) throws IOException {
+        Properties properties = new Properties();
+        properties.putAll(entries);
+        Files.createDirectories(file.getParent());
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            properties.store(writer, null);
+        }
+    }
+
+    /**
+     * Returns the entries added, changed or removed since the previous
+     * manifest.
+     */
+    public List<String> changesSince(DeploymentManifest previous) {
+        List<String> changes = new ArrayList<>();
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            if (!entry.getValue().equals(previous.entries.get(entry.getKey()))) {
+                changes.add(entry.getKey());
+            }
+        }
+        for (String name : previous.entries.keySet()) {
+            if (!entries.containsKey(name)) {
+                changes.add(name);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Returns the uncompressed size of the given entries of this archive.
+     */
+    public long sizeOf(List<String> names) {
+        long size = 0;
+        for (String name : names) {
+            String value = entries.get(name);
+            if (value != null) {
+                size += Long.parseLong(value.substring(value.indexOf(':') + 1));
+            }
+        }
+        return size;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins.server.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.regex.Pattern;
+
+/**
+ * Folds server log records into a compact, ranked summary, for the console
+ * or as a diagnostic payload.
+ * <p>
+ * Records with a stack trace are grouped by the signature of their exception
+ * and top frames, other records by their message with the variable parts
+ * (numbers, identifiers, quoted values) masked. The groups are ranked by
+ * level, count and recency, and written with one representative record each
+ * until the byte budget is used up.
+ *
+ * @author Gaurav Gupta
+ */
+public class LogSummarizer {
+
+    private static final int SIGNATURE_FRAMES = 5;
+    private static final int SAMPLE_FRAMES = 8;
+    private static final String FRAME_PREFIX = "at ";
+    private static final String CAUSE_PREFIX = "Caused by: ";
+    private static final Pattern LINE_NUMBER = Pattern.compile("\\(([^():]*):\\d+\\)");
+    private static final Pattern UUID = Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+    private static final Pattern QUOTED = Pattern.compile("'[^']*'|\"[^\"]*\"");
+    private static final Pattern HEX = Pattern.compile("\\b(?:0x)?[0-9a-fA-F]*\\d[0-9a-fA-F]*\\b");
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+
+    private final int byteBudget;
+
+    public LogSummarizer(int byteBudget) {
+        this.byteBudget = byteBudget;
+    }
+
+    /**
+     * Summarizes the records, given oldest first as returned by
+     * {@link ServerLogStore}.
+     */
+    public String summarize(List<String> records) {
+        Map<String, Group> groups = new LinkedHashMap<>();
+        for (String record : records) {
+            Entry entry = parse(record);
+            groups.computeIfAbsent(entry.fingerprint(), key -> new Group(entry)).add(entry);
+        }
+        List<Group> ranked = new ArrayList<>(groups.values());
+        ranked.sort((a, b) -> {
+            if (a.level != b.level) {
+                return Integer.compare(b.level, a.level);
+            }
+            if (a.count != b.count) {
+                return Integer.compare(b.count, a.count);
+            }
+            return Long.compare(b.lastTime, a.lastTime);
+        });
+
+        StringBuilder summary = new StringBuilder();
+        summary.append(records.size()).append(" log records, ")
+                .append(ranked.size()).append(" distinct").append('\n');
+        int used = utf8Length(summary);
+        int written = 0;
+        for (Group group : ranked) {
+            String text = group.format();
+            int length = utf8Length(text);
+            if (used + length > byteBudget) {
+                break;
+            }
+            summary.append(text);
+            used += length;
+            written++;
+        }
+        if (written < ranked.size()) {
+            summary.append("... ").append(ranked.size() - written).append(" more omitted").append('\n');
+        }
+        return summary.toString();
+    }
+
+    private static Entry parse(String record) {
+        int headerEnd = record.indexOf('\n');
+        String header = headerEnd < 0 ? record : record.substring(0, headerEnd);
+        Entry entry = new Entry();
+        if (ServerLogStore.isRecordStart(header)) {
+            String[] fields = ServerLogStore.fields(header);
+            entry.level = ServerLogStore.level(header, fields);
+            entry.logger = ServerLogStore.logger(header, fields);
+            entry.time = ServerLogStore.time(header, fields);
+        } else {
+            entry.level = Level.INFO.intValue();
+            entry.logger = "";
+            entry.time = Long.MIN_VALUE;
+        }
+        for (String line : message(record).split("\\R")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (trimmed.startsWith(FRAME_PREFIX) || trimmed.startsWith("... ")) {
+                entry.frames.add(trimmed);
+            } else if (trimmed.startsWith(CAUSE_PREFIX)) {
+                entry.causes.add(exceptionType(trimmed.substring(CAUSE_PREFIX.length())));
+                entry.frames.add(trimmed);
+            } else if (entry.frames.isEmpty()) {
+                if (entry.message.length() > 0) {
+                    entry.message.append('\n');
+                }
+                entry.message.append(trimmed);
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Strips the header of ODL (<code>[[ ... ]]</code>) and ULF
+     * (<code>|message|#]</code>) records.
+     */
+    private static String message(String record) {
+        int start = record.indexOf("[[");
+        if (start >= 0) {
+            int end = record.lastIndexOf("]]");
+            return record.substring(start + 2, end > start ? end : record.length());
+        }
+        if (record.startsWith("[#|")) {
+            int start5 = 3;
+            for (int i = 0; i < 5 && start5 > 0; i++) {
+                start5 = record.indexOf('|', start5) + 1;
+            }
+            int end = record.lastIndexOf("|#]");
+            if (start5 > 0) {
+                return record.substring(start5, end > start5 ? end : record.length());
+            }
+        }
+        return record;
+    }
+
+    private static String exceptionType(String line) {
+        int colon = line.indexOf(':');
+        return (colon < 0 ? line : line.substring(0, colon)).trim();
+    }
+
+    static String mask(String text) {
+        String masked = UUID.matcher(text).replaceAll("<uuid>");
+        masked = QUOTED.matcher(masked).replaceAll("<str>");
+        masked = HEX.matcher(masked).replaceAll("<n>");
+        return NUMBER.matcher(masked).replaceAll("<n>");
+    }
+
+    private static int utf8Length(CharSequence text) {
+        return text.toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static String levelName(int level) {
+        for (Level candidate : new Level[]{Level.SEVERE, Level.WARNING, Level.INFO, Level.CONFIG, Level.FINE, Level.FINER}) {
+            if (level >= candidate.intValue()) {
+                return candidate.getName();
+            }
+        }
+        return Level.FINEST.getName();
+    }
+
+    private static final class Entry {
+
+        private int level;
+        private String logger;
+        private long time;
+        private final StringBuilder message = new StringBuilder();
+        private final List<String> frames = new ArrayList<>();
+        private final List<String> causes = new ArrayList<>();
+
+        private String fingerprint() {
+            StringBuilder fingerprint = new StringBuilder();
+            fingerprint.append(level).append('|').append(logger).append('|');
+            if (frames.isEmpty()) {
+                return fingerprint.append(mask(message.toString())).toString();
+            }
+            // the exception type is the first line of the trace, the message is masked
+            String firstLine = message.toString();
+            int lastLine = firstLine.lastIndexOf('\n');
+            fingerprint.append(exceptionType(lastLine < 0 ? firstLine : firstLine.substring(lastLine + 1)));
+            fingerprint.append(causes);
+            int count = 0;
+            for (String frame : frames) {
+                if (frame.startsWith(FRAME_PREFIX) && count++ < SIGNATURE_FRAMES) {
+                    fingerprint.append('|').append(LINE_NUMBER.matcher(frame).replaceAll("($1)"));
+                }
+            }
+            return fingerprint.toString();
+        }
+    }
+
+    private static final class Group {
+
+        private final Entry sample;
+        private final int level;
+        private int count;
+        private long firstTime = Long.MAX_VALUE;
+        private long lastTime = Long.MIN_VALUE;
+
+        private Group(Entry sample) {
+            this.sample = sample;
+            this.level = sample.level;
+        }
+
+        private void add(Entry entry) {
+            count++;
+            firstTime = Math.min(firstTime, entry.time);
+            lastTime = Math.max(lastTime, entry.time);
+        }
+
+        private String format() {
+            StringBuilder text = new StringBuilder();
+            text.append('[').append(levelName(level)).append("] x").append(count);
+            if (!sample.logger.isEmpty()) {
+                text.append(' ').append(sample.logger);
+            }
+            if (lastTime != Long.MIN_VALUE) {
+                SimpleDateFormat format = new SimpleDateFormat("HH:mm:ss");
+                text.append(" (");
+                if (count > 1) {
+                    text.append(format.format(new Date(firstTime))).append(" - ");
+                }
+                text.append(format.format(new Date(lastTime))).append(')');
+            }
+            text.append('\n');
+            for (String line : sample.message.toString().split("\n")) {
+                text.append("  ").append(line).append('\n');
+            }
+            int shown = 0;
+            for (String frame : sample.frames) {
+                if (shown++ == SAMPLE_FRAMES) {
+                    text.append("    ... ").append(sample.frames.size() - SAMPLE_FRAMES).append(" more").append('\n');
+                    break;
+                }
+                text.append("    ").append(frame).append('\n');
+            }
+            return text.toString();
+        }
+    }
+}
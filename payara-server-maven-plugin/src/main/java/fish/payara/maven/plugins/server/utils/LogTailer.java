@@ -0,0 +1,261 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins.server.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.maven.plugin.logging.Log;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+/**
+ * Follows a log file and hands over every complete line to a consumer, the
+ * way <code>tail -F</code> does.
+ * <p>
+ * The file is read through a {@link FileChannel} into a direct buffer and
+ * decoded as UTF-8. The tailer wakes up on {@link WatchService} events for
+ * the file directory and polls only as a fallback, for file systems without
+ * change notifications. When the file is rotated (a new file key or
+ * creation time) the rest of the old file is read before following the new
+ * one from its beginning, and when it is truncated reading restarts from
+ * the beginning.
+ *
+ * @author Gaurav Gupta
+ */
+public class LogTailer implements Runnable, Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long POLL_INTERVAL_MILLIS = 1000;
+
+    private final Path file;
+    private final Consumer<String> consumer;
+    private final Log log;
+    private final ByteBuffer bytes = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final StringBuilder pending = new StringBuilder();
+
+    private FileChannel channel;
+    private Object identity;
+    private long position;
+    private volatile WatchService watchService;
+    private volatile boolean closed;
+
+    public LogTailer(Path file, Consumer<String> consumer, Log log) {
+        this.file = file.toAbsolutePath();
+        this.consumer = consumer;
+        this.log = log;
+    }
+
+    /**
+     * Tails the file from its current end until the tailer is closed or the
+     * thread is interrupted.
+     */
+    @Override
+    public void run() {
+        try {
+            watchService = createWatchService();
+            open(true);
+            while (!closed && !Thread.currentThread().isInterrupted()) {
+                readAvailable();
+                checkRotation();
+                awaitChange();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ex) {
+            Thread.currentThread().interrupt();
+        } catch (IOException ex) {
+            log.error("Error occurred while tailing " + file, ex);
+        } finally {
+            closed = true;
+            closeChannel();
+            closeWatchService();
+        }
+    }
+
+    /**
+     * Stops the tailer, the file being closed by the tailing thread.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        closeWatchService();
+    }
+
+    private void closeWatchService() {
+        WatchService service = watchService;
+        if (service != null) {
+            try {
+                service.close();
+            } catch (IOException ex) {
+                log.debug("Error in closing the watch service", ex);
+            }
+        }
+    }
+
+    private WatchService createWatchService() {
+        try {
+            WatchService service = file.getFileSystem().newWatchService();
+            file.getParent().register(service, ENTRY_CREATE, ENTRY_MODIFY);
+            return service;
+        } catch (IOException | UnsupportedOperationException ex) {
+            log.debug("Watch service not available, polling " + file, ex);
+            return null;
+        }
+    }
+
+    private void open(boolean fromEnd) throws IOException {
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            identity = identity(Files.readAttributes(file, BasicFileAttributes.class));
+            position = fromEnd ? channel.size() : 0;
+            decoder.reset();
+            bytes.clear();
+        } catch (NoSuchFileException ex) {
+            channel = null;
+            identity = null;
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ex) {
+                log.debug("Error in closing " + file, ex);
+            }
+            channel = null;
+        }
+    }
+
+    private void readAvailable() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        int read;
+        while ((read = channel.read(bytes, position)) > 0) {
+            position += read;
+            bytes.flip();
+            CoderResult result;
+            do {
+                result = decoder.decode(bytes, chars, false);
+                chars.flip();
+                emitLines();
+                chars.clear();
+            } while (result.isOverflow());
+            bytes.compact();
+        }
+    }
+
+    private void emitLines() {
+        while (chars.hasRemaining()) {
+            char c = chars.get();
+            if (c == '\n') {
+                int length = pending.length();
+                if (length > 0 && pending.charAt(length - 1) == '\r') {
+                    pending.setLength(length - 1);
+                }
+                consumer.accept(pending.toString());
+                pending.setLength(0);
+            } else {
+                pending.append(c);
+            }
+        }
+    }
+
+    private void checkRotation() throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException ex) {
+            // rotated away, the new file is picked up once it is created
+            return;
+        }
+        if (channel == null) {
+            open(false);
+        } else if (!Objects.equals(identity, identity(attributes))) {
+            // drain what the old file got after the last read, then follow the new one
+            readAvailable();
+            closeChannel();
+            open(false);
+        } else if (attributes.size() < position) {
+            position = 0;
+            decoder.reset();
+            bytes.clear();
+            pending.setLength(0);
+        }
+    }
+
+    private static Object identity(BasicFileAttributes attributes) {
+        Object fileKey = attributes.fileKey();
+        return fileKey != null ? fileKey : attributes.creationTime();
+    }
+
+    private void awaitChange() throws InterruptedException {
+        if (watchService == null) {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+            return;
+        }
+        WatchKey key = watchService.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        if (key != null) {
+            key.pollEvents();
+            key.reset();
+        }
+    }
+}
@@ -0,0 +1,476 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins.server.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Level;
+
+/**
+ * Read only view of <code>server.log</code> and its rotated files, answering
+ * queries such as the last SEVERE records without loading the logs into the
+ * heap.
+ * <p>
+ * The files are indexed by record: the offset and level of each record are
+ * kept in primitive arrays, and only the text of the records
+ * selected by a query is read back and decoded, scanning the index from the
+ * newest record backwards. Every query first indexes what was appended to
+ * <code>server.log</code> since the previous one, and follows its rotation.
+ * The files are only open during a query, so that the server can rotate them
+ * on any platform. Both the ODL and the ULF record formats are recognized.
+ *
+ * @author Gaurav Gupta
+ */
+public class ServerLogStore {
+
+    private static final int MAX_ROTATED_FILES = 10;
+    private static final int MAX_HEADER_LENGTH = 4096;
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final long UNKNOWN_TIME = Long.MIN_VALUE;
+    private static final String TIME_MILLIS_FIELD = "timeMillis: ";
+    private static final String LEVEL_VALUE_FIELD = "levelValue: ";
+    private static final String ULF_RECORD_START = "[#|";
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+
+    private final Path serverLog;
+    private final List<Segment> segments = new ArrayList<>();
+
+    public ServerLogStore(Path serverLog) {
+        this.serverLog = serverLog.toAbsolutePath();
+    }
+
+    /**
+     * Returns the last records at or above the level, oldest first.
+     */
+    public synchronized List<String> last(int count, Level minLevel) throws IOException {
+        refresh();
+        int minLevelValue = minLevel == null ? Integer.MIN_VALUE : minLevel.intValue();
+        List<String> records = new ArrayList<>();
+        try {
+            search:
+            for (int s = segments.size() - 1; s >= 0; s--) {
+                Segment segment = segments.get(s);
+                for (int r = segment.size - 1; r >= 0; r--) {
+                    if (records.size() >= count) {
+                        break search;
+                    }
+                    if (segment.levels[r] >= minLevelValue) {
+                        records.add(segment.text(r));
+                    }
+                }
+            }
+        } finally {
+            closeSegments();
+        }
+        Collections.reverse(records);
+        return records;
+    }
+
+    /**
+     * Returns the end of the log, at most <code>maxLength</code> characters
+     * made of whole records where possible.
+     */
+    public synchronized String tail(int maxLength) throws IOException {
+        refresh();
+        StringBuilder tail = new StringBuilder();
+        List<String> records = new ArrayList<>();
+        int length = 0;
+        try {
+            for (int s = segments.size() - 1; s >= 0 && length < maxLength; s--) {
+                Segment segment = segments.get(s);
+                for (int r = segment.size - 1; r >= 0 && length < maxLength; r--) {
+                    String record = segment.text(r);
+                    records.add(record);
+                    length += record.length();
+                }
+            }
+        } finally {
+            closeSegments();
+        }
+        Collections.reverse(records);
+        for (String record : records) {
+            tail.append(record);
+        }
+        return tail.length() > maxLength ? tail.substring(tail.length() - maxLength) : tail.toString();
+    }
+
+    /**
+     * Indexes the records appended since the last call, and picks up the
+     * rotated files.
+     */
+    public synchronized void refresh() throws IOException {
+        Segment active = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        Object key = fileKey(serverLog);
+        try {
+            if (active == null || !Objects.equals(active.key, key)) {
+                reload();
+            } else {
+                active.index();
+            }
+        } finally {
+            closeSegments();
+        }
+    }
+
+    private void closeSegments() {
+        for (Segment segment : segments) {
+            segment.close();
+        }
+    }
+
+    private void reload() throws IOException {
+        List<Path> files = new ArrayList<>(rotatedFiles());
+        files.add(serverLog);
+        List<Segment> reloaded = new ArrayList<>();
+        for (Path file : files) {
+            Object key = fileKey(file);
+            if (key == null) {
+                continue;
+            }
+            Segment segment = null;
+            for (Segment existing : segments) {
+                if (key.equals(existing.key)) {
+                    segment = existing;
+                    segment.path = file;
+                }
+            }
+            if (segment == null) {
+                segment = new Segment(file, key);
+            }
+            try {
+                segment.index();
+            } finally {
+                segment.close();
+            }
+            reloaded.add(segment);
+        }
+        for (Segment segment : segments) {
+            segment.close();
+        }
+        segments.clear();
+        segments.addAll(reloaded);
+    }
+
+    private List<Path> rotatedFiles() throws IOException {
+        List<Path> files = new ArrayList<>();
+        Path dir = serverLog.getParent();
+        String prefix = serverLog.getFileName() + "_";
+        if (dir == null || !Files.isDirectory(dir)) {
+            return files;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, prefix + "*")) {
+            for (Path file : stream) {
+                if (!file.getFileName().toString().endsWith(".gz")) {
+                    files.add(file);
+                }
+            }
+        }
+        files.sort((a, b) -> Long.compare(lastModified(a), lastModified(b)));
+        return files.size() > MAX_ROTATED_FILES ? files.subList(files.size() - MAX_ROTATED_FILES, files.size()) : files;
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException ex) {
+            return 0;
+        }
+    }
+
+    private static Object fileKey(Path file) throws IOException {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return attributes.fileKey() != null ? attributes.fileKey() : attributes.creationTime();
+        } catch (NoSuchFileException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * A log file with the index of its records.
+     */
+    private final class Segment {
+
+        private Path path;
+        private final Object key;
+        private FileChannel channel;
+        private long scanned;
+        private boolean inLine;
+        private int size;
+        private long[] offsets = new long[256];
+        private int[] levels = new int[256];
+
+        private Segment(Path path, Object key) {
+            this.path = path;
+            this.key = key;
+        }
+
+        /**
+         * Indexes the records appended since the last call, reading the file
+         * in chunks from the end of the last whole line scanned.
+         */
+        private void index() throws IOException {
+            if (!open()) {
+                return;
+            }
+            long fileSize = channel.size();
+            if (fileSize < scanned) {
+                // truncated in place
+                size = 0;
+                scanned = 0;
+                inLine = false;
+            }
+            ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+            long position = scanned;
+            boolean lineStart = !inLine;
+            while (position < fileSize) {
+                read(chunk, position, (int) Math.min(CHUNK_SIZE, fileSize - position));
+                int limit = chunk.limit();
+                boolean more = limit == CHUNK_SIZE && position + limit < fileSize;
+                int i = 0;
+                while (i < limit) {
+                    if (lineStart && chunk.get(i) == '[') {
+                        int lineEnd = indexOf(chunk, '\n', i, Math.min(limit, i + MAX_HEADER_LENGTH));
+                        if (lineEnd < 0 && limit - i < MAX_HEADER_LENGTH) {
+                            if (!more) {
+                                // header not fully written yet
+                                scanned = position + i;
+                                inLine = false;
+                                return;
+                            }
+                            // the header continues in the next chunk
+                            break;
+                        }
+                        String header = decode(chunk, i, (lineEnd < 0 ? Math.min(limit, i + MAX_HEADER_LENGTH) : lineEnd) - i);
+                        if (isRecordStart(header)) {
+                            add(position + i, header);
+                        }
+                    }
+                    int next = indexOf(chunk, '\n', i, limit);
+                    if (next < 0) {
+                        i = limit;
+                        lineStart = false;
+                        break;
+                    }
+                    i = next + 1;
+                    lineStart = true;
+                }
+                position += i;
+            }
+            scanned = position;
+            inLine = !lineStart;
+        }
+
+        private boolean open() throws IOException {
+            if (channel == null) {
+                try {
+                    channel = FileChannel.open(path, StandardOpenOption.READ);
+                } catch (NoSuchFileException ex) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void close() {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ex) {
+                    // nothing left to release
+                }
+                channel = null;
+            }
+        }
+
+        private void read(ByteBuffer buffer, long position, int length) throws IOException {
+            buffer.clear().limit(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    break;
+                }
+            }
+            buffer.flip();
+        }
+
+        private void add(long offset, String header) {
+            if (size == offsets.length) {
+                int capacity = size * 2;
+                offsets = Arrays.copyOf(offsets, capacity);
+                levels = Arrays.copyOf(levels, capacity);
+            }
+            offsets[size] = offset;
+            levels[size] = level(header, fields(header));
+            size++;
+        }
+
+        private String text(int record) throws IOException {
+            long start = offsets[record];
+            long end = record + 1 < size ? offsets[record + 1] : scanned;
+            if (!open()) {
+                return "";
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(end - start, Integer.MAX_VALUE - 8));
+            read(buffer, start, buffer.capacity());
+            return decode(buffer, 0, buffer.limit());
+        }
+    }
+
+    private static int indexOf(ByteBuffer buffer, char c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String decode(ByteBuffer buffer, int offset, int length) {
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(offset).limit(offset + length);
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        try {
+            return decoder.decode(slice).toString();
+        } catch (CharacterCodingException ex) {
+            return "";
+        }
+    }
+
+    static boolean isRecordStart(String header) {
+        return header.startsWith(ULF_RECORD_START)
+                || (header.length() > 1 && Character.isDigit(header.charAt(1)));
+    }
+
+    /**
+     * Splits the header into its fields: the bracketed fields of an ODL
+     * record, or the <code>|</code> separated fields of an ULF record.
+     */
+    static String[] fields(String header) {
+        if (header.startsWith(ULF_RECORD_START)) {
+            return header.substring(ULF_RECORD_START.length()).split("\\|", 6);
+        }
+        List<String> fields = new ArrayList<>();
+        int start = header.indexOf('[');
+        while (start >= 0 && fields.size() < 6) {
+            int end = header.indexOf(']', start);
+            if (end < 0) {
+                break;
+            }
+            fields.add(header.substring(start + 1, end));
+            start = header.indexOf('[', end);
+        }
+        return fields.toArray(new String[0]);
+    }
+
+    static long time(String header, String[] fields) {
+        String millis = field(header, TIME_MILLIS_FIELD);
+        if (millis != null) {
+            try {
+                return Long.parseLong(millis);
+            } catch (NumberFormatException ex) {
+                // fall back to the timestamp
+            }
+        }
+        if (fields.length > 0) {
+            try {
+                return OffsetDateTime.parse(fields[0], TIMESTAMP_FORMAT).toInstant().toEpochMilli();
+            } catch (DateTimeParseException ex) {
+                // unknown timestamp format
+            }
+        }
+        return UNKNOWN_TIME;
+    }
+
+    static int level(String header, String[] fields) {
+        String value = field(header, LEVEL_VALUE_FIELD);
+        if (value != null) {
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException ex) {
+                // fall back to the level name
+            }
+        }
+        int index = header.startsWith(ULF_RECORD_START) ? 1 : 2;
+        if (fields.length > index) {
+            try {
+                return Level.parse(fields[index].trim()).intValue();
+            } catch (IllegalArgumentException ex) {
+                // ALERT and EMERGENCY are not java.util.logging levels
+                return Level.SEVERE.intValue();
+            }
+        }
+        return Level.INFO.intValue();
+    }
+
+    static String logger(String header, String[] fields) {
+        int index = header.startsWith(ULF_RECORD_START) ? 3 : 4;
+        return fields.length > index ? fields[index] : "";
+    }
+
+    private static String field(String header, String name) {
+        int start = header.indexOf('[' + name);
+        if (start < 0) {
+            return null;
+        }
+        start += name.length() + 1;
+        int end = header.indexOf(']', start);
+        return end < 0 ? null : header.substring(start, end);
+    }
+}
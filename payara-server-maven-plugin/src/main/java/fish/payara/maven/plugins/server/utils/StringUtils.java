@@ -38,6 +38,8 @@
  */
 package fish.payara.maven.plugins.server.utils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -93,4 +95,44 @@ public class StringUtils {
     public static String escapePath(String path) {
         return path.replace("\\", "\\\\").replace("$", "\\$");
     }
+
+    /**
+     * Splits a command line on white space, single or double quotes grouping
+     * words into one argument.
+     *
+     * @param commandLine command line in string form.
+     * @return arguments, without their quotes.
+     */
+    public static List<String> tokenize(String commandLine) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        boolean inToken = false;
+        char quote = 0;
+        for (int i = 0; i < commandLine.length(); i++) {
+            char c = commandLine.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                } else {
+                    token.append(c);
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+                inToken = true;
+            } else if (Character.isWhitespace(c)) {
+                if (inToken) {
+                    tokens.add(token.toString());
+                    token.setLength(0);
+                    inToken = false;
+                }
+            } else {
+                token.append(c);
+                inToken = true;
+            }
+        }
+        if (inToken) {
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
 }
@@ -0,0 +1,251 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins.server.utils;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Single entry zip wrapping an archive for upload, the entry being
+ * <code>STORED</code> as the archive is already compressed.
+ * <p>
+ * Only the headers and the central directory are built in memory, the
+ * archive itself is sent as is from the file. The CRC-32 of the archive is
+ * cached until the file changes, so that deploying the same archive again
+ * does not read it twice, and an envelope can be published any number of
+ * times.
+ *
+ * @author Gaurav Gupta
+ */
+public class ZipEnvelope {
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final short VERSION = 20;
+    private static final short UTF8_FLAG = 0x0800;
+    private static final short STORED = 0;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int END_SIZE = 22;
+    private static final long MAX_SIZE = 0xFFFFFFFFL;
+    private static final int CRC_BUFFER_SIZE = 256 * 1024;
+
+    /**
+     * Coarsest modification time granularity of the common file systems,
+     * FAT recording even seconds only.
+     */
+    private static final long MTIME_GRANULARITY = 2000;
+    private static final int CRC_CACHE_SIZE = 64;
+
+    private static final Map<String, long[]> CRC_CACHE = new ConcurrentHashMap<>();
+
+    private final File file;
+    private final byte[] header;
+    private final byte[] trailer;
+
+    private ZipEnvelope(File file, byte[] header, byte[] trailer) {
+        this.file = file;
+        this.header = header;
+        this.trailer = trailer;
+    }
+
+    /**
+     * Builds the envelope of the file, with the given extra field on its
+     * entry, or returns null when the file is too large for a zip without
+     * the Zip64 extensions.
+     */
+    public static ZipEnvelope of(File file, byte[] extra) throws IOException {
+        long size = file.length();
+        if (size >= MAX_SIZE) {
+            return null;
+        }
+        long crc = crc(file);
+        byte[] name = file.getName().getBytes(StandardCharsets.UTF_8);
+        int dosTime = dosTime(file.lastModified());
+
+        ByteBuffer header = ByteBuffer.allocate(LOCAL_HEADER_SIZE + name.length + extra.length)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(LOCAL_HEADER_SIGNATURE)
+                .putShort(VERSION)
+                .putShort(UTF8_FLAG)
+                .putShort(STORED)
+                .putInt(dosTime)
+                .putInt((int) crc)
+                .putInt((int) size)
+                .putInt((int) size)
+                .putShort((short) name.length)
+                .putShort((short) extra.length)
+                .put(name)
+                .put(extra);
+
+        int centralSize = CENTRAL_HEADER_SIZE + name.length + extra.length;
+        ByteBuffer trailer = ByteBuffer.allocate(centralSize + END_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        trailer.putInt(CENTRAL_HEADER_SIGNATURE)
+                .putShort(VERSION)
+                .putShort(VERSION)
+                .putShort(UTF8_FLAG)
+                .putShort(STORED)
+                .putInt(dosTime)
+                .putInt((int) crc)
+                .putInt((int) size)
+                .putInt((int) size)
+                .putShort((short) name.length)
+                .putShort((short) extra.length)
+                .putShort((short) 0) // comment length
+                .putShort((short) 0) // disk number
+                .putShort((short) 0) // internal attributes
+                .putInt(0) // external attributes
+                .putInt(0) // local header offset
+                .put(name)
+                .put(extra);
+        trailer.putInt(END_SIGNATURE)
+                .putShort((short) 0) // disk number
+                .putShort((short) 0) // central directory disk
+                .putShort((short) 1) // entries on this disk
+                .putShort((short) 1) // entries
+                .putInt(centralSize)
+                .putInt((int) (header.capacity() + size))
+                .putShort((short) 0); // comment length
+        return new ZipEnvelope(file, header.array(), trailer.array());
+    }
+
+    /**
+     * Total size of the zip.
+     */
+    public long length() {
+        return header.length + file.length() + trailer.length;
+    }
+
+    /**
+     * Publishes the zip, reading the archive straight from its file.
+     */
+    public BodyPublisher publisher() throws FileNotFoundException {
+        return BodyPublishers.concat(
+                BodyPublishers.ofByteArray(header),
+                BodyPublishers.ofFile(file.toPath()),
+                BodyPublishers.ofByteArray(trailer));
+    }
+
+    /**
+     * Copies the file, computing its checksum along the way. The checksum of
+     * the copy is cached whatever its age, the copy being only rewritten
+     * through this method.
+     */
+    public static void copy(Path source, Path target) throws IOException {
+        CRC32 crc = new CRC32();
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+                FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(CRC_BUFFER_SIZE);
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                crc.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                buffer.clear();
+            }
+        }
+        File file = target.toFile();
+        cache(file.getCanonicalPath(), file.length(), file.lastModified(), crc.getValue());
+    }
+
+    private static long crc(File file) throws IOException {
+        String key = file.getCanonicalPath();
+        long size = file.length();
+        long lastModified = file.lastModified();
+        long[] cached = CRC_CACHE.get(key);
+        if (cached != null && cached[0] == size && cached[1] == lastModified) {
+            return cached[2];
+        }
+        CRC32 crc = new CRC32();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(CRC_BUFFER_SIZE);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+            }
+        }
+        // a file modified within the granularity may be rewritten with the
+        // same size and time, its checksum is only kept once that is over
+        if (System.currentTimeMillis() - lastModified > MTIME_GRANULARITY) {
+            cache(key, size, lastModified, crc.getValue());
+        }
+        return crc.getValue();
+    }
+
+    private static void cache(String key, long size, long lastModified, long crc) {
+        if (CRC_CACHE.size() >= CRC_CACHE_SIZE) {
+            CRC_CACHE.clear();
+        }
+        CRC_CACHE.put(key, new long[]{size, lastModified, crc});
+    }
+
+    private static int dosTime(long time) {
+        LocalDateTime date = LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+        int year = date.getYear();
+        if (year < 1980) {
+            return (1 << 21) | (1 << 16);
+        }
+        return (year - 1980) << 25
+                | date.getMonthValue() << 21
+                | date.getDayOfMonth() << 16
+                | date.getHour() << 11
+                | date.getMinute() << 5
+                | date.getSecond() >> 1;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins.server.manager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author Gaurav Gupta
+ */
+public class RetryPolicyTest {
+
+    @Test
+    public void testAtLeastOneAttempt() {
+        assertEquals(1, RetryPolicy.NONE.getMaxAttempts());
+        assertEquals(1, new RetryPolicy(0, 100, 1000, 1000).getMaxAttempts());
+        assertEquals(1, new RetryPolicy(-3, 100, 1000, 1000).getMaxAttempts());
+    }
+
+    @Test
+    public void testDelayWithinJitterBounds() {
+        RetryPolicy policy = new RetryPolicy(10, 100, 1000, 10000);
+        long[] backoffs = {100, 200, 400, 800, 1000, 1000};
+        for (int i = 0; i < backoffs.length; i++) {
+            for (int sample = 0; sample < 100; sample++) {
+                long delay = policy.delay(i + 1);
+                assertTrue("attempt " + (i + 1) + " delay " + delay,
+                        delay >= backoffs[i] / 2 && delay <= backoffs[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testDelayOfLateAttemptDoesNotOverflow() {
+        RetryPolicy policy = new RetryPolicy(100, 100, 1000, 10000);
+        for (int attempt = 20; attempt <= 100; attempt++) {
+            long delay = policy.delay(attempt);
+            assertTrue("attempt " + attempt + " delay " + delay, delay >= 500 && delay <= 1000);
+        }
+    }
+
+    @Test
+    public void testNoDelay() {
+        assertEquals(0, RetryPolicy.NONE.delay(1));
+        assertEquals(1, new RetryPolicy(3, 1, 1, 100).delay(2));
+    }
+
+    @Test
+    public void testWithLimitsKeepsBackoff() {
+        RetryPolicy policy = new RetryPolicy(3, 100, 100, 1000).withLimits(5, 2000);
+        assertEquals(5, policy.getMaxAttempts());
+        assertEquals(2000, policy.getBudget());
+        long delay = policy.delay(3);
+        assertTrue("delay " + delay, delay >= 50 && delay <= 100);
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins.server.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author Gaurav Gupta
+ */
+public class LogSummarizerTest {
+
+    private static final String RECORD = "[2025-01-10T10:15:%02d.000+0000] [Payara 6] [%s] [] [%s]"
+            + " [tid: _ThreadID=1] [timeMillis: 1736504130000] [levelValue: %d] [[\n  %s]]";
+
+    @Test
+    public void testMaskVariableParts() {
+        assertEquals("Deployed app in <n> ms", LogSummarizer.mask("Deployed app in 123 ms"));
+        assertEquals("Session <uuid> expired",
+                LogSummarizer.mask("Session 3f2a9c1e-0b4d-4e8f-9a7b-123456789abc expired"));
+        assertEquals("Loading <str> from <str>", LogSummarizer.mask("Loading 'orders' from \"db\""));
+        assertEquals("Address <n> and id <n> port <n>",
+                LogSummarizer.mask("Address 0x7ffe12 and id deadbeef1 port 8080"));
+        assertEquals("v<n> build", LogSummarizer.mask("v2 build"));
+        assertEquals("no variable part", LogSummarizer.mask("no variable part"));
+    }
+
+    @Test
+    public void testGroupByMaskedMessage() {
+        List<String> records = new ArrayList<>();
+        records.add(record(1, "INFO", "core", 800, "Deployed app in 120 ms"));
+        records.add(record(2, "INFO", "core", 800, "Deployed app in 98 ms"));
+        records.add(record(3, "INFO", "web", 800, "Deployed app in 98 ms"));
+        String summary = new LogSummarizer(10000).summarize(records);
+        assertTrue(summary, summary.startsWith("3 log records, 2 distinct\n"));
+        assertTrue(summary, summary.contains("[INFO] x2 core"));
+        assertTrue(summary, summary.contains("[INFO] x1 web"));
+        // the first record of a group is its representative
+        assertTrue(summary, summary.contains("  Deployed app in 120 ms\n"));
+    }
+
+    @Test
+    public void testGroupByExceptionSignature() {
+        List<String> records = new ArrayList<>();
+        records.add(record(1, "SEVERE", "ejb", 1000,
+                "java.lang.IllegalStateException: bad 1\n\tat a.B.c(B.java:10)\n\tat a.B.d(B.java:20)"));
+        records.add(record(2, "SEVERE", "ejb", 1000,
+                "java.lang.IllegalStateException: other\n\tat a.B.c(B.java:11)\n\tat a.B.d(B.java:20)"));
+        records.add(record(3, "SEVERE", "ejb", 1000,
+                "java.lang.IllegalArgumentException: bad 1\n\tat a.B.c(B.java:10)\n\tat a.B.d(B.java:20)"));
+        records.add(record(4, "SEVERE", "ejb", 1000,
+                "java.lang.IllegalStateException: bad 1\n\tat a.B.e(B.java:10)\n\tat a.B.d(B.java:20)"));
+        String summary = new LogSummarizer(10000).summarize(records);
+        assertTrue(summary, summary.startsWith("4 log records, 3 distinct\n"));
+        assertTrue(summary, summary.contains("[SEVERE] x2 ejb"));
+        assertTrue(summary, summary.contains("    at a.B.c(B.java:10)\n"));
+    }
+
+    @Test
+    public void testRankByLevelThenCount() {
+        List<String> records = new ArrayList<>();
+        records.add(record(1, "INFO", "core", 800, "started"));
+        records.add(record(2, "INFO", "core", 800, "started"));
+        records.add(record(3, "INFO", "core", 800, "started"));
+        records.add(record(4, "WARNING", "web", 900, "slow"));
+        records.add(record(5, "INFO", "core", 800, "stopped"));
+        records.add(record(6, "INFO", "core", 800, "stopped"));
+        String summary = new LogSummarizer(10000).summarize(records);
+        int warning = summary.indexOf("[WARNING] x1 web");
+        int started = summary.indexOf("[INFO] x3 core");
+        int stopped = summary.indexOf("[INFO] x2 core");
+        assertTrue(summary, warning > 0 && warning < started && started < stopped);
+    }
+
+    @Test
+    public void testRecordsWithoutHeader() {
+        List<String> records = new ArrayList<>();
+        records.add("plain line");
+        records.add("plain line");
+        String summary = new LogSummarizer(10000).summarize(records);
+        assertTrue(summary, summary.contains("[INFO] x2\n  plain line\n"));
+    }
+
+    @Test
+    public void testByteBudget() {
+        List<String> records = new ArrayList<>();
+        records.add(record(1, "SEVERE", "ejb", 1000, "first failure"));
+        records.add(record(2, "WARNING", "web", 900, "second failure"));
+        records.add(record(3, "INFO", "core", 800, "third message"));
+        String summary = new LogSummarizer(110).summarize(records);
+        assertTrue(summary, summary.contains("first failure"));
+        assertFalse(summary, summary.contains("second failure"));
+        assertTrue(summary, summary.endsWith("... 2 more omitted\n"));
+
+        summary = new LogSummarizer(0).summarize(records);
+        assertEquals("3 log records, 3 distinct\n... 3 more omitted\n", summary);
+    }
+
+    private static String record(int second, String level, String logger, int levelValue, String message) {
+        return String.format(RECORD, second, level, logger, levelValue, message);
+    }
+
+}
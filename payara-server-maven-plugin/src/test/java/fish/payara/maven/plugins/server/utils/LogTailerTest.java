@@ -0,0 +1,142 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins.server.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+/**
+ *
+ * @author Gaurav Gupta
+ */
+public class LogTailerTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test
+    public void testFollowFromEnd() throws Exception {
+        Path log = serverLog();
+        append(log, "already there\n");
+        BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+        try (LogTailer tailer = start(log, lines)) {
+            append(log, "first\r\n", "sec");
+            append(log, "ond\n");
+            assertEquals("first", next(lines));
+            assertEquals("second", next(lines));
+            assertNull(lines.poll());
+        }
+    }
+
+    @Test
+    public void testFollowRotation() throws Exception {
+        Path log = serverLog();
+        BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+        try (LogTailer tailer = start(log, lines)) {
+            append(log, "before rotation\n");
+            assertEquals("before rotation", next(lines));
+
+            append(log, "end of old file\n");
+            Files.move(log, log.resolveSibling("server.log_2025-01-10T10-16-00"));
+            append(log, "start of new file\n");
+            assertEquals("end of old file", next(lines));
+            assertEquals("start of new file", next(lines));
+        }
+    }
+
+    @Test
+    public void testFollowTruncation() throws Exception {
+        Path log = serverLog();
+        BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+        try (LogTailer tailer = start(log, lines)) {
+            append(log, "a long line before truncation\n");
+            assertEquals("a long line before truncation", next(lines));
+
+            Files.write(log, "short\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.TRUNCATE_EXISTING);
+            assertEquals("short", next(lines));
+        }
+    }
+
+    /**
+     * Starts tailing the file, returning once the tailer follows it.
+     */
+    private static LogTailer start(Path log, BlockingQueue<String> lines) throws Exception {
+        append(log, "");
+        LogTailer tailer = new LogTailer(log, lines::add, new SystemStreamLog());
+        Thread thread = new Thread(tailer, "log-tailer-test");
+        thread.setDaemon(true);
+        thread.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (System.nanoTime() < deadline) {
+            append(log, "ping\n");
+            if ("ping".equals(lines.poll(100, TimeUnit.MILLISECONDS))) {
+                lines.clear();
+                return tailer;
+            }
+        }
+        tailer.close();
+        throw new AssertionError("tailer not started");
+    }
+
+    private static String next(BlockingQueue<String> lines) throws InterruptedException {
+        return lines.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static Path serverLog() throws IOException {
+        Path dir = Files.createTempDirectory("log-tailer");
+        dir.toFile().deleteOnExit();
+        return dir.resolve("server.log");
+    }
+
+    private static void append(Path log, String... texts) throws IOException {
+        for (String text : texts) {
+            Files.write(log, text.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+    }
+
+}
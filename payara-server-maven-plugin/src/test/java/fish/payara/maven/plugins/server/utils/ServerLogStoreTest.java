@@ -0,0 +1,141 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins.server.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.logging.Level;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author Gaurav Gupta
+ */
+public class ServerLogStoreTest {
+
+    private static final String RECORD = "[2025-01-10T10:15:30.000+0000] [Payara 6] [%s] [] [%s]"
+            + " [tid: _ThreadID=1] [timeMillis: 1736504130000] [levelValue: %d] [[\n  %s]]\n\n";
+
+    @Test
+    public void testIndexRecords() throws IOException {
+        Path log = serverLog();
+        append(log, record(Level.INFO, "first"), record(Level.WARNING, "second\n  continued"), record(Level.INFO, "third"));
+        ServerLogStore store = new ServerLogStore(log);
+
+        List<String> records = store.last(10, Level.ALL);
+        assertEquals(3, records.size());
+        assertEquals(record(Level.WARNING, "second\n  continued"), records.get(1));
+        assertEquals(List.of(record(Level.INFO, "third")), store.last(1, Level.ALL));
+    }
+
+    @Test
+    public void testLevelFiltering() throws IOException {
+        Path log = serverLog();
+        append(log, record(Level.SEVERE, "old failure"), record(Level.INFO, "started"),
+                record(Level.WARNING, "slow"), record(Level.SEVERE, "failure"), record(Level.FINE, "detail"));
+        ServerLogStore store = new ServerLogStore(log);
+
+        assertEquals(List.of(record(Level.SEVERE, "old failure"), record(Level.SEVERE, "failure")),
+                store.last(10, Level.SEVERE));
+        assertEquals(List.of(record(Level.WARNING, "slow"), record(Level.SEVERE, "failure")),
+                store.last(2, Level.WARNING));
+        assertEquals(5, store.last(10, Level.ALL).size());
+    }
+
+    @Test
+    public void testRecordsAppendedBetweenQueries() throws IOException {
+        Path log = serverLog();
+        append(log, record(Level.INFO, "first"));
+        ServerLogStore store = new ServerLogStore(log);
+        assertEquals(1, store.last(10, Level.ALL).size());
+
+        // a record whose header is not fully written yet is not indexed
+        String next = record(Level.SEVERE, "second");
+        append(log, next.substring(0, 20));
+        assertEquals(1, store.last(10, Level.ALL).size());
+        append(log, next.substring(20));
+        assertEquals(List.of(next), store.last(10, Level.SEVERE));
+    }
+
+    @Test
+    public void testTailAcrossRotation() throws IOException {
+        Path log = serverLog();
+        append(log, record(Level.INFO, "before rotation"));
+        ServerLogStore store = new ServerLogStore(log);
+        assertEquals(record(Level.INFO, "before rotation"), store.tail(1000));
+
+        Path rotated = log.resolveSibling("server.log_2025-01-10T10-16-00");
+        Files.move(log, rotated);
+        Files.setLastModifiedTime(rotated, FileTime.fromMillis(System.currentTimeMillis() - 60000));
+        append(log, record(Level.SEVERE, "after rotation"));
+
+        String tail = store.tail(1000);
+        assertEquals(record(Level.INFO, "before rotation") + record(Level.SEVERE, "after rotation"), tail);
+        assertEquals(2, store.last(10, Level.ALL).size());
+
+        // at most maxLength characters, from the end
+        String last = store.tail(10);
+        assertEquals(10, last.length());
+        assertTrue(tail.endsWith(last));
+    }
+
+    private static String record(Level level, String message) {
+        return String.format(RECORD, level.getName(), "core", level.intValue(), message);
+    }
+
+    private static Path serverLog() throws IOException {
+        Path dir = Files.createTempDirectory("server-log-store");
+        dir.toFile().deleteOnExit();
+        return dir.resolve("server.log");
+    }
+
+    private static void append(Path log, String... texts) throws IOException {
+        for (String text : texts) {
+            Files.write(log, text.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+    }
+
+}
@@ -0,0 +1,181 @@
+/*
+ *
+ * Copyright (c) 2025 Payara Foundation and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://github.com/payara/Payara/blob/master/LICENSE.txt
+ * See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at glassfish/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * The Payara Foundation designates this particular file as subject to the "Classpath"
+ * exception as provided by the Payara Foundation in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package fish.payara.maven.plugins.server.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+/**
+ *
+ * @author Gaurav Gupta
+ */
+public class ZipEnvelopeTest {
+
+    private static final long HOUR = 60 * 60 * 1000;
+
+    @Test
+    public void testEnvelopeIsValidZip() throws Exception {
+        byte[] content = "archive content".getBytes(StandardCharsets.UTF_8);
+        byte[] extra = {(byte) 0xFE, (byte) 0xCA, 0, 0};
+        File file = archive("app.war", content, System.currentTimeMillis() - HOUR);
+
+        ZipEnvelope envelope = ZipEnvelope.of(file, extra);
+        byte[] zip = publish(envelope.publisher());
+        assertEquals(envelope.length(), zip.length);
+
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            ZipEntry entry = in.getNextEntry();
+            assertEquals("app.war", entry.getName());
+            assertEquals(ZipEntry.STORED, entry.getMethod());
+            assertEquals(content.length, entry.getSize());
+            assertEquals(crc(content), entry.getCrc());
+            assertArrayEquals(extra, entry.getExtra());
+            assertArrayEquals(content, in.readAllBytes());
+            assertNull(in.getNextEntry());
+        }
+    }
+
+    @Test
+    public void testEmptyArchiveWithoutExtra() throws Exception {
+        byte[] content = new byte[0];
+        File file = archive("empty.war", content, System.currentTimeMillis() - HOUR);
+
+        byte[] zip = publish(ZipEnvelope.of(file, new byte[0]).publisher());
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            ZipEntry entry = in.getNextEntry();
+            assertEquals("empty.war", entry.getName());
+            assertEquals(crc(content), entry.getCrc());
+            assertNull(entry.getExtra());
+        }
+    }
+
+    @Test
+    public void testCrcFollowsModifiedFile() throws Exception {
+        long lastModified = System.currentTimeMillis() - HOUR;
+        File file = archive("modified.war", "version 1".getBytes(StandardCharsets.UTF_8), lastModified);
+        assertEquals(crc("version 1".getBytes(StandardCharsets.UTF_8)), entryCrc(file));
+
+        byte[] content = "version 2".getBytes(StandardCharsets.UTF_8);
+        Files.write(file.toPath(), content);
+        file.setLastModified(lastModified + 1000);
+        assertEquals(crc(content), entryCrc(file));
+    }
+
+    @Test
+    public void testCrcOfRecentFileNotCached() throws Exception {
+        // rewritten with the same size and time, as within the mtime granularity
+        long lastModified = System.currentTimeMillis();
+        File file = archive("recent.war", "version 1".getBytes(StandardCharsets.UTF_8), lastModified);
+        assertEquals(crc("version 1".getBytes(StandardCharsets.UTF_8)), entryCrc(file));
+
+        byte[] content = "version 2".getBytes(StandardCharsets.UTF_8);
+        Files.write(file.toPath(), content);
+        file.setLastModified(lastModified);
+        assertEquals(crc(content), entryCrc(file));
+    }
+
+    private static File archive(String name, byte[] content, long lastModified) throws IOException {
+        File dir = Files.createTempDirectory("zip-envelope").toFile();
+        dir.deleteOnExit();
+        File file = new File(dir, name);
+        file.deleteOnExit();
+        Files.write(file.toPath(), content);
+        file.setLastModified(lastModified);
+        return file;
+    }
+
+    /**
+     * CRC-32 field of the local header.
+     */
+    private static long entryCrc(File file) throws Exception {
+        byte[] zip = publish(ZipEnvelope.of(file, new byte[0]).publisher());
+        return ByteBuffer.wrap(zip, 14, 4).order(ByteOrder.LITTLE_ENDIAN).getInt() & 0xFFFFFFFFL;
+    }
+
+    private static long crc(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return crc.getValue();
+    }
+
+    private static byte[] publish(BodyPublisher publisher) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompletableFuture<byte[]> done = new CompletableFuture<>();
+        publisher.subscribe(new Flow.Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                byte[] bytes = new byte[item.remaining()];
+                item.get(bytes);
+                out.write(bytes, 0, bytes.length);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(out.toByteArray());
+            }
+        });
+        return done.get();
+    }
+}